@@ -24,6 +24,11 @@ repositories {
 
 dependencies {
     compileOnly(libs.io.papermc.paper.paper.api)
+
+    testImplementation(libs.io.papermc.paper.paper.api)
+    testImplementation(platform(libs.org.junit.junit.bom))
+    testImplementation(libs.org.junit.jupiter.junit.jupiter)
+    testRuntimeOnly(libs.org.junit.platform.junit.platform.launcher)
 }
 
 group = "me.honeyberries"
@@ -37,6 +42,23 @@ publishing {
     }
 }
 
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs the benchmarks in the test sources."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging.showStandardStreams = true
+}
+
 tasks.withType<JavaCompile>() {
     options.encoding = "UTF-8"
 }
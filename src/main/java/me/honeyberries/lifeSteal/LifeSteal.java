@@ -3,16 +3,37 @@ package me.honeyberries.lifeSteal;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import me.honeyberries.lifeSteal.command.HealthCommand;
+import me.honeyberries.lifeSteal.command.HeartBankCommand;
 import me.honeyberries.lifeSteal.command.LifeStealCommand;
 import me.honeyberries.lifeSteal.command.WithdrawCommand;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.listener.CombatTagListener;
+import me.honeyberries.lifeSteal.listener.HeartEconomyListener;
+import me.honeyberries.lifeSteal.listener.HeartItemUpgradeListener;
 import me.honeyberries.lifeSteal.listener.HeartUsageListener;
+import me.honeyberries.lifeSteal.listener.ItemSerialListener;
+import me.honeyberries.lifeSteal.listener.PermissionTierListener;
 import me.honeyberries.lifeSteal.listener.PlayerDeathListener;
 import me.honeyberries.lifeSteal.listener.PlayerJoinListener;
+import me.honeyberries.lifeSteal.listener.PlayerQuitListener;
+import me.honeyberries.lifeSteal.listener.PlayerRespawnListener;
 import me.honeyberries.lifeSteal.listener.RevivalItemListener;
+import me.honeyberries.lifeSteal.listener.RevivalRecipeListener;
+import me.honeyberries.lifeSteal.manager.CombatTags;
 import me.honeyberries.lifeSteal.manager.EliminatedPlayersData;
+import me.honeyberries.lifeSteal.manager.EliminationExpiry;
+import me.honeyberries.lifeSteal.manager.HeartBank;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.HeartLeaderboard;
+import me.honeyberries.lifeSteal.manager.HeartLedger;
+import me.honeyberries.lifeSteal.manager.HeartTimers;
+import me.honeyberries.lifeSteal.manager.LimboWorld;
+import me.honeyberries.lifeSteal.manager.PlayerNameIndex;
+import me.honeyberries.lifeSteal.manager.PlayerSuggestions;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
 import me.honeyberries.lifeSteal.task.HeartRecipeDiscoveryTask;
+import me.honeyberries.lifeSteal.task.PlayerDataResetJob;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,8 +59,39 @@ public final class LifeSteal extends JavaPlugin {
         
         // Load messages
 
+        // Load the limbo world for eliminated spectators, if enabled
+        LimboWorld.initialize();
+
         // Initialize eliminated players data
         EliminatedPlayersData.initialize();
+
+        // Load the name index, seeding it from the eliminated players
+        PlayerNameIndex.initialize();
+
+        // Build the tab completion tries
+        PlayerSuggestions.initialize();
+
+        // Load the heart ledger and start its periodic flush
+        HeartLedger.initialize();
+        HeartLeaderboard.initialize();
+
+        // Load the heart bank balances and start their periodic flush
+        HeartBank.initialize();
+
+        // Load the serials of minted heart and revival items
+        SerialRegistry.initialize();
+
+        // Load the heart economy counters, after the ledger and bank whose totals they report
+        HeartEconomy.initialize();
+
+        // Restore kill heart decay, newbie protection and cooldown timers
+        HeartTimers.initialize();
+
+        // Start expiring combat tags
+        CombatTags.initialize();
+
+        // Schedule the revival of players whose timed elimination runs out
+        EliminationExpiry.initialize();
         me.honeyberries.lifeSteal.config.Messages.loadMessages();
 
         // Register event listeners
@@ -52,6 +104,10 @@ public final class LifeSteal extends JavaPlugin {
         // Schedule the inventory scanning task
         startInventoryScanTask();
 
+        if (PlayerDataResetJob.hasUnfinishedJob()) {
+            getLogger().warning("An uninstall was interrupted before every player file was reset. Run /lifesteal uninstall to resume it.");
+        }
+
         getLogger().info("LifeSteal plugin has been successfully enabled!");
     }
 
@@ -68,6 +124,25 @@ public final class LifeSteal extends JavaPlugin {
             invScanTask.cancel();
         }
 
+        // Let a running uninstall stop after its current files, it resumes on the next run
+        PlayerDataResetJob.cancel();
+
+        // Stop waiting for the next elimination expiry, deadlines are kept in the data file
+        EliminationExpiry.shutdown();
+
+        // Stop expiring combat tags, they are not kept across restarts
+        CombatTags.shutdown();
+
+        // Save pending heart timers before the ledger they write to
+        HeartTimers.shutdown();
+
+        // Persist the name index and the heart ledger
+        PlayerNameIndex.save();
+        HeartLedger.shutdown();
+        HeartBank.shutdown();
+        SerialRegistry.shutdown();
+        HeartEconomy.shutdown();
+
         getLogger().info("LifeSteal plugin has been successfully disabled!");
     }
 
@@ -78,7 +153,15 @@ public final class LifeSteal extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new PlayerDeathListener(), this);
         getServer().getPluginManager().registerEvents(new HeartUsageListener(), this);
         getServer().getPluginManager().registerEvents(new PlayerJoinListener(), this);
+        getServer().getPluginManager().registerEvents(new PlayerQuitListener(), this);
+        getServer().getPluginManager().registerEvents(new PlayerRespawnListener(), this);
         getServer().getPluginManager().registerEvents(new RevivalItemListener(), this);
+        getServer().getPluginManager().registerEvents(new PermissionTierListener(), this);
+        getServer().getPluginManager().registerEvents(new CombatTagListener(), this);
+        getServer().getPluginManager().registerEvents(new ItemSerialListener(), this);
+        getServer().getPluginManager().registerEvents(new HeartEconomyListener(), this);
+        getServer().getPluginManager().registerEvents(new HeartItemUpgradeListener(), this);
+        getServer().getPluginManager().registerEvents(new RevivalRecipeListener(), this);
     }
 
     /**
@@ -90,6 +173,7 @@ public final class LifeSteal extends JavaPlugin {
                 commands.registrar().register(LifeStealCommand.getBuildCommand());
                 commands.registrar().register(WithdrawCommand.getBuildCommand());
                 commands.registrar().register(HealthCommand.getBuildCommand());
+                commands.registrar().register(HeartBankCommand.getBuildCommand());
             }
         );
     }
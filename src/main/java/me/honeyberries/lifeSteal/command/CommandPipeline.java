@@ -0,0 +1,153 @@
+package me.honeyberries.lifeSteal.command;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.Messages;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Folia-aware execution layer for commands that act on another player.
+ * <p>
+ * Commands run on the sender's thread, which on Folia may own a different region than
+ * the target. Every mutation is therefore routed to the target's entity scheduler, and
+ * the outcome is reported back to the sender on the sender's own scheduler. Targets that
+ * log out before the action runs, or actions that do not start in time, are reported
+ * as unavailable instead of silently dropped.
+ */
+public final class CommandPipeline {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+    private CommandPipeline() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Signals that the target player left before the action could run.
+     */
+    public static class TargetUnavailableException extends RuntimeException {
+        public TargetUnavailableException(String playerName) {
+            super(playerName + " is no longer available");
+        }
+    }
+
+    /**
+     * Runs an action on the target's entity scheduler.
+     * <p>
+     * The returned future completes with the action's result, or exceptionally with a
+     * {@link TargetUnavailableException} if the target logged out, or a {@link TimeoutException}
+     * if the action did not start in time. The action and the timeout race to claim the future:
+     * an action that starts after the timeout is skipped, and once the action has started
+     * the timeout no longer applies, so a change that is applied is always reported as applied.
+     *
+     * @param target The player to run the action for
+     * @param action The action to run on the target's thread
+     * @param <T>    The result type
+     * @return A future for the action's result
+     */
+    public static <T> CompletableFuture<T> runOn(@NotNull Player target, @NotNull Function<Player, T> action) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicBoolean claimed = new AtomicBoolean();
+        String targetName = target.getName();
+
+        ScheduledTask task = target.getScheduler().run(plugin, scheduled -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return; // Timed out before we got here, don't mutate without a report
+            }
+            try {
+                future.complete(action.apply(target));
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        }, () -> {
+            if (claimed.compareAndSet(false, true)) {
+                future.completeExceptionally(new TargetUnavailableException(targetName));
+            }
+        });
+
+        if (task == null) {
+            claimed.set(true);
+            future.completeExceptionally(new TargetUnavailableException(targetName));
+            return future;
+        }
+        CompletableFuture.delayedExecutor(LifeStealConstants.COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS).execute(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                future.completeExceptionally(new TimeoutException());
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Runs a reply on the sender's own scheduler.
+     * Players and other entities use their entity scheduler, everything else the global region.
+     *
+     * @param sender The command sender
+     * @param reply  The reply to run
+     */
+    public static void reply(@NotNull CommandSender sender, @NotNull Consumer<CommandSender> reply) {
+        if (sender instanceof Entity entity) {
+            entity.getScheduler().run(plugin, task -> reply.accept(sender), null);
+        } else {
+            Bukkit.getGlobalRegionScheduler().execute(plugin, () -> reply.accept(sender));
+        }
+    }
+
+    /**
+     * Runs an action on the target's scheduler and reports the result back to the sender.
+     * Failures are reported with {@link #reportFailure(CommandSender, String, Throwable)}.
+     *
+     * @param sender    The command sender
+     * @param target    The player to run the action for
+     * @param action    The action to run on the target's thread
+     * @param onSuccess The reply to run on the sender's thread with the action's result
+     * @param <T>       The result type
+     * @return A future for the action's result
+     */
+    public static <T> CompletableFuture<T> dispatch(@NotNull CommandSender sender, @NotNull Player target,
+                                                    @NotNull Function<Player, T> action,
+                                                    @NotNull BiConsumer<CommandSender, T> onSuccess) {
+        String targetName = target.getName();
+        CompletableFuture<T> future = runOn(target, action);
+        future.whenComplete((result, error) -> reply(sender, replyTo -> {
+            if (error != null) {
+                reportFailure(replyTo, targetName, error);
+            } else {
+                onSuccess.accept(replyTo, result);
+            }
+        }));
+        return future;
+    }
+
+    /**
+     * Reports a failed command to the sender.
+     *
+     * @param sender     The command sender
+     * @param targetName The name of the target player
+     * @param error      The failure cause
+     */
+    public static void reportFailure(@NotNull CommandSender sender, @NotNull String targetName, @NotNull Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TargetUnavailableException || cause instanceof TimeoutException) {
+            sender.sendMessage(Messages.targetUnavailable(targetName));
+            return;
+        }
+        plugin.getLogger().log(Level.SEVERE, "Command for " + targetName + " failed", cause);
+        sender.sendMessage(Messages.commandFailed(targetName));
+    }
+}
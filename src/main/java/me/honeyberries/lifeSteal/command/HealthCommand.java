@@ -2,6 +2,7 @@ package me.honeyberries.lifeSteal.command;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.tree.LiteralCommandNode;
@@ -12,6 +13,12 @@ import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
 import me.honeyberries.lifeSteal.manager.EliminationManager;
+import me.honeyberries.lifeSteal.manager.EliminationRoster;
+import me.honeyberries.lifeSteal.manager.HeartLeaderboard;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.HeartLedger;
+import me.honeyberries.lifeSteal.manager.PlayerNameIndex;
+import me.honeyberries.lifeSteal.manager.PlayerSuggestions;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -19,6 +26,9 @@ import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.logging.Logger;
 
 public class HealthCommand {
@@ -53,13 +63,7 @@ public class HealthCommand {
                 })
                 .then(
                     Commands.argument("player", StringArgumentType.string())
-                        .suggests((ctx, builder) -> {
-                            Bukkit.getOnlinePlayers().stream()
-                                .map(Player::getName)
-                                .filter(name -> startsWithIgnoreCase(name, builder.getRemaining()))
-                                .forEach(builder::suggest);
-                            return builder.buildFuture();
-                        })
+                        .suggests((ctx, builder) -> PlayerSuggestions.suggestOnline(builder))
                         .requires(source -> source.getSender().hasPermission("lifesteal.command.health.view.others"))
                         .executes(ctx -> {
                             showOtherHealth(ctx);
@@ -75,13 +79,7 @@ public class HealthCommand {
                         return Command.SINGLE_SUCCESS;
                     })
                     .then(Commands.argument("player", StringArgumentType.string())
-                        .suggests((ctx, builder) -> {
-                            Bukkit.getOnlinePlayers().stream()
-                                .map(Player::getName)
-                                .filter(name -> startsWithIgnoreCase(name, builder.getRemaining()))
-                                .forEach(builder::suggest);
-                            return builder.buildFuture();
-                        })
+                        .suggests((ctx, builder) -> PlayerSuggestions.suggestOnline(builder))
                         .requires(source -> source.getSender().hasPermission("lifesteal.command.health.modify.others"))
                         .executes(ctx -> {
                             setHealthOther(ctx);
@@ -98,13 +96,7 @@ public class HealthCommand {
                         return Command.SINGLE_SUCCESS;
                     })
                     .then(Commands.argument("player", StringArgumentType.word())
-                        .suggests((ctx, builder) -> {
-                            Bukkit.getOnlinePlayers().stream()
-                                .map(Player::getName)
-                                .filter(name -> startsWithIgnoreCase(name, builder.getRemaining()))
-                                .forEach(builder::suggest);
-                            return builder.buildFuture();
-                        })
+                        .suggests((ctx, builder) -> PlayerSuggestions.suggestOnline(builder))
                         .requires(source -> source.getSender().hasPermission("lifesteal.command.health.modify.others"))
                         .executes(ctx -> {
                             addHealthOther(ctx);
@@ -121,13 +113,7 @@ public class HealthCommand {
                         return Command.SINGLE_SUCCESS;
                     })
                     .then(Commands.argument("player", StringArgumentType.word())
-                        .suggests((ctx, builder) -> {
-                            Bukkit.getOnlinePlayers().stream()
-                                .map(Player::getName)
-                                .filter(name -> startsWithIgnoreCase(name, builder.getRemaining()))
-                                .forEach(builder::suggest);
-                            return builder.buildFuture();
-                        })
+                        .suggests((ctx, builder) -> PlayerSuggestions.suggestOnline(builder))
                         .requires(source -> source.getSender().hasPermission("lifesteal.command.health.modify.others"))
                         .executes(ctx -> {
                             removeHealthOther(ctx);
@@ -139,13 +125,7 @@ public class HealthCommand {
             .then(Commands.literal("eliminate")
                 .requires(source -> source.getSender().hasPermission("lifesteal.command.health.eliminate"))
                 .then(Commands.argument("player", StringArgumentType.word())
-                    .suggests((ctx, builder) -> {
-                        Bukkit.getOnlinePlayers().stream()
-                            .map(Player::getName)
-                            .filter(name -> startsWithIgnoreCase(name, builder.getRemaining()))
-                            .forEach(builder::suggest);
-                        return builder.buildFuture();
-                    })
+                    .suggests((ctx, builder) -> PlayerSuggestions.suggestOnline(builder))
                     .executes(ctx -> {
                         eliminatePlayer(ctx);
                         return Command.SINGLE_SUCCESS;
@@ -155,31 +135,43 @@ public class HealthCommand {
             .then(Commands.literal("revive")
                 .requires(source -> source.getSender().hasPermission("lifesteal.command.health.revive"))
                 .then(Commands.argument("player", StringArgumentType.word())
-                    .suggests((ctx, builder) -> {
-                        // Suggest eliminated players (both online and offline)
-                        EliminationManager.getEliminatedPlayers().stream()
-                            .map(OfflinePlayer::getName)
-                            .filter(name -> name != null && startsWithIgnoreCase(name, builder.getRemaining()))
-                            .forEach(builder::suggest);
-                        return builder.buildFuture();
-                    })
+                    // Suggest eliminated players (both online and offline)
+                    .suggests((ctx, builder) -> PlayerSuggestions.suggestEliminated(builder))
                     .executes(ctx -> {
                         revivePlayer(ctx);
                         return Command.SINGLE_SUCCESS;
                     })
                 )
             )
+            .then(Commands.literal("eliminated")
+                .requires(source -> source.getSender().hasPermission("lifesteal.command.health.eliminated"))
+                .executes(ctx -> {
+                    showEliminated(ctx.getSource().getSender(), 1);
+                    return Command.SINGLE_SUCCESS;
+                })
+                .then(Commands.argument("page", IntegerArgumentType.integer(1))
+                    .executes(ctx -> {
+                        showEliminated(ctx.getSource().getSender(), IntegerArgumentType.getInteger(ctx, "page"));
+                        return Command.SINGLE_SUCCESS;
+                    })
+                )
+            )
+            .then(Commands.literal("top")
+                .requires(source -> source.getSender().hasPermission("lifesteal.command.health.top"))
+                .executes(ctx -> {
+                    showLeaderboard(ctx.getSource().getSender(), 1);
+                    return Command.SINGLE_SUCCESS;
+                })
+                .then(Commands.argument("page", IntegerArgumentType.integer(1))
+                    .executes(ctx -> {
+                        showLeaderboard(ctx.getSource().getSender(), IntegerArgumentType.getInteger(ctx, "page"));
+                        return Command.SINGLE_SUCCESS;
+                    })
+                )
+            )
         .build();
     }
 
-    /**
-     * Case-insensitive startsWith helper for suggestions.
-     */
-    private static boolean startsWithIgnoreCase(String value, String prefix) {
-        return value.toLowerCase().startsWith(prefix.toLowerCase());
-    }
-
-
     /**
      * Handles the '/health' command showing the sender their own health.
      *
@@ -202,7 +194,7 @@ public class HealthCommand {
         String playerName = StringArgumentType.getString(ctx, "player");
         Player target = Bukkit.getPlayer(playerName);
         if (target == null) {
-            ctx.getSource().getSender().sendMessage(Messages.playerNotFound(playerName));
+            sendOfflineHealthMessage(ctx.getSource().getSender(), playerName);
             return;
         }
         sendHealthMessage(ctx.getSource().getSender(), target);
@@ -229,11 +221,11 @@ public class HealthCommand {
     private static void setHealthOther(CommandContext<CommandSourceStack> ctx) {
         String playerName = StringArgumentType.getString(ctx, "player");
         Player target = Bukkit.getPlayer(playerName);
+        double amount = DoubleArgumentType.getDouble(ctx, "amount");
         if (target == null) {
-            ctx.getSource().getSender().sendMessage(Messages.playerNotFound(playerName));
+            modifyOfflineHealth(ctx.getSource().getSender(), playerName, amount, false);
             return;
         }
-        double amount = DoubleArgumentType.getDouble(ctx, "amount");
         setHealth(ctx.getSource().getSender(), target, amount);
     }
 
@@ -259,11 +251,11 @@ public class HealthCommand {
     private static void addHealthOther(CommandContext<CommandSourceStack> ctx) {
         String playerName = StringArgumentType.getString(ctx, "player");
         Player target = Bukkit.getPlayer(playerName);
+        double amount = DoubleArgumentType.getDouble(ctx, "amount");
         if (target == null) {
-            ctx.getSource().getSender().sendMessage(Messages.playerNotFound(playerName));
+            modifyOfflineHealth(ctx.getSource().getSender(), playerName, amount, true);
             return;
         }
-        double amount = DoubleArgumentType.getDouble(ctx, "amount");
         adjustHealth(ctx.getSource().getSender(), target, amount);
     }
 
@@ -289,11 +281,11 @@ public class HealthCommand {
     private static void removeHealthOther(CommandContext<CommandSourceStack> ctx) {
         String playerName = StringArgumentType.getString(ctx, "player");
         Player target = Bukkit.getPlayer(playerName);
+        double amount = DoubleArgumentType.getDouble(ctx, "amount");
         if (target == null) {
-            ctx.getSource().getSender().sendMessage(Messages.playerNotFound(playerName));
+            modifyOfflineHealth(ctx.getSource().getSender(), playerName, -amount, true);
             return;
         }
-        double amount = DoubleArgumentType.getDouble(ctx, "amount");
         adjustHealth(ctx.getSource().getSender(), target, -amount);
     }
 
@@ -318,18 +310,21 @@ public class HealthCommand {
             return;
         }
         
-        // Check if player is already eliminated
-        if (EliminationManager.isEliminated(target)) {
-            sender.sendMessage(Component.text(target.getName() + " is already eliminated.", NamedTextColor.RED));
-            return;
-        }
-        
-        // Eliminate the player
-        EliminationManager.eliminatePlayer(target);
-        
-        // Send confirmation to sender
-        sender.sendMessage(Component.text("You have eliminated " + target.getName() + ".", NamedTextColor.GREEN));
-        logger.info(sender.getName() + " eliminated " + target.getName());
+        // Check and eliminate on the target's scheduler so the state can't change in between
+        CommandPipeline.dispatch(sender, target, player -> {
+            if (EliminationManager.isEliminated(player)) {
+                return false;
+            }
+            EliminationManager.eliminatePlayer(player, EliminationRoster.COMMAND_CAUSE, null);
+            return true;
+        }, (replyTo, eliminated) -> {
+            if (!eliminated) {
+                replyTo.sendMessage(Component.text(target.getName() + " is already eliminated.", NamedTextColor.RED));
+                return;
+            }
+            replyTo.sendMessage(Component.text("You have eliminated " + target.getName() + ".", NamedTextColor.GREEN));
+            logger.info(replyTo.getName() + " eliminated " + target.getName());
+        });
     }
 
     /**
@@ -341,49 +336,135 @@ public class HealthCommand {
         CommandSender sender = ctx.getSource().getSender();
         String playerName = StringArgumentType.getString(ctx, "player");
         
-        // Try to find the player (online or offline)
-        OfflinePlayer target = Bukkit.getOfflinePlayer(playerName);
-        
-        // Check if player has ever played
-        if (!target.hasPlayedBefore() && !target.isOnline()) {
-            sender.sendMessage(Component.text("Player '" + playerName + "' has never played on this server.", NamedTextColor.RED));
+        // Resolve the name from the local index, never from the network or player data
+        UUID targetId = PlayerNameIndex.resolve(playerName);
+        if (targetId == null) {
+            sender.sendMessage(Messages.playerNeverSeen(playerName));
             return;
         }
+        OfflinePlayer target = Bukkit.getOfflinePlayer(targetId);
         
         // Check if revival is allowed
         if (!LifeStealSettings.isAllowRevival()) {
             sender.sendMessage(Messages.revivalItemDisabled());
             return;
         }
-        
-        // Check if player is eliminated
-        if (!EliminationManager.isEliminated(target)) {
-            sender.sendMessage(Component.text(target.getName() + " is not eliminated.", NamedTextColor.RED));
-            return;
+
+        // Online players are revived on their own scheduler, offline players only touch the elimination store
+        Player onlineTarget = target.getPlayer();
+        if (onlineTarget != null) {
+            CommandPipeline.dispatch(sender, onlineTarget, EliminationManager::revivePlayer,
+                (replyTo, success) -> sendReviveResult(replyTo, playerName, success));
+        } else {
+            sendReviveResult(sender, playerName, EliminationManager.revivePlayer(target));
         }
-        
-        // Revive the player
-        boolean success = EliminationManager.revivePlayer(target);
-        
+    }
+
+    /**
+     * Reports the result of a revive attempt to the sender.
+     *
+     * @param sender     the command sender.
+     * @param targetName the name the sender used for the player.
+     * @param success    whether the player was revived.
+     */
+    private static void sendReviveResult(CommandSender sender, String targetName, boolean success) {
         if (success) {
             double revivalHealth = LifeStealSettings.getRevivalHealth();
             double hearts = revivalHealth / LifeStealConstants.HEALTH_POINTS_PER_HEART;
             String heartsWord = hearts == 1.0 ? "heart" : "hearts";
             
             sender.sendMessage(Messages.playerRevived(
-                target.getName() != null ? target.getName() : "Unknown",
+                targetName,
                 LifeStealUtil.formatHealth(hearts),
                 heartsWord
             ));
             
-            logger.info(sender.getName() + " revived " + target.getName());
+            logger.info(sender.getName() + " revived " + targetName);
         } else {
-            sender.sendMessage(Component.text("Failed to revive " + target.getName() + ".", NamedTextColor.RED));
+            sender.sendMessage(Messages.alreadyRevived(targetName));
         }
     }
 
 
 
+    /**
+     * Handles the '/health top [page]' command, showing a page of the heart leaderboard.
+     * Pages are read from the {@link HeartLeaderboard}, so nothing is sorted here.
+     *
+     * @param sender the command sender.
+     * @param page   the page to show, starting at 1.
+     */
+    private static void showLeaderboard(CommandSender sender, int page) {
+        int pageSize = LifeStealConstants.LEADERBOARD_PAGE_SIZE;
+        int totalPages = Math.max(1, (HeartLeaderboard.size() + pageSize - 1) / pageSize);
+        List<HeartLeaderboard.Entry> entries = HeartLeaderboard.getPage(page, pageSize);
+
+        if (entries.isEmpty()) {
+            sender.sendMessage(Component.text("There is no page " + page + ". The leaderboard has " + totalPages + " page(s).", NamedTextColor.RED));
+            return;
+        }
+
+        sender.sendMessage(Component.text("------- Heart Leaderboard (" + page + "/" + totalPages + ") -------", NamedTextColor.GREEN));
+        for (HeartLeaderboard.Entry entry : entries) {
+            String name = Objects.requireNonNullElse(PlayerNameIndex.getName(entry.uuid()), entry.uuid().toString());
+            sender.sendMessage(
+                Component.text("#" + entry.rank() + " ", NamedTextColor.GOLD)
+                    .append(Component.text(name, NamedTextColor.AQUA))
+                    .append(Component.text(" - ", NamedTextColor.GRAY))
+                    .append(Component.text(LifeStealUtil.formatHealth(entry.health() / LifeStealConstants.HEALTH_POINTS_PER_HEART) + " hearts", NamedTextColor.RED))
+            );
+        }
+        if (sender instanceof Player player) {
+            int rank = HeartLeaderboard.getRank(player.getUniqueId());
+            if (rank > 0) {
+                sender.sendMessage(Component.text("Your rank: ", NamedTextColor.YELLOW)
+                    .append(Component.text("#" + rank, NamedTextColor.GOLD)));
+            }
+        }
+    }
+
+    /**
+     * Handles the '/health eliminated [page]' command, listing eliminated players, most recent first.
+     *
+     * @param sender the command sender.
+     * @param page   the page to show, starting at 1.
+     */
+    private static void showEliminated(CommandSender sender, int page) {
+        List<EliminationRoster.Entry> roster = EliminationRoster.snapshot().recent();
+        if (roster.isEmpty()) {
+            sender.sendMessage(Messages.noEliminatedPlayers());
+            return;
+        }
+
+        int pageSize = LifeStealConstants.LEADERBOARD_PAGE_SIZE;
+        int totalPages = (roster.size() + pageSize - 1) / pageSize;
+        if (page > totalPages) {
+            sender.sendMessage(Component.text("There is no page " + page + ". The list has " + totalPages + " page(s).", NamedTextColor.RED));
+            return;
+        }
+
+        sender.sendMessage(Component.text("------- Eliminated Players (" + page + "/" + totalPages + ") -------", NamedTextColor.GREEN));
+        int end = Math.min(roster.size(), page * pageSize);
+        for (int i = (page - 1) * pageSize; i < end; i++) {
+            EliminationRoster.Entry entry = roster.get(i);
+            sender.sendMessage(
+                Component.text(entry.displayName(), NamedTextColor.AQUA)
+                    .append(Component.text(" - ", NamedTextColor.GRAY))
+                    .append(Component.text(entry.describeCause(), NamedTextColor.GOLD))
+                    .append(Component.text(" (" + entry.describeTime() + ")", NamedTextColor.GRAY))
+            );
+        }
+    }
+
+    /**
+     * The outcome of a health modification, computed on the target's thread.
+     *
+     * @param oldHealth the health before the change.
+     * @param newHealth the requested health after the change.
+     * @param applied   whether the change was applied.
+     */
+    private record HealthChange(double oldHealth, double newHealth, boolean applied) {}
+
     /**
      * Sets a player's health to the specified value.
      *
@@ -396,11 +477,17 @@ public class HealthCommand {
             sender.sendMessage(Messages.healthCannotBeZero());
             return;
         }
-        double oldHealth = LifeStealUtil.getMaxHealth(target);
-        LifeStealUtil.setMaxHealth(target, health);
-        sendHealthUpdate(sender, target, oldHealth, health);
-        logger.info(String.format("Health modified by %s: %s's health set from %.1f to %.1f",
-            sender.getName(), target.getName(), oldHealth, health));
+        CommandPipeline.dispatch(sender, target, player -> {
+            double oldHealth = LifeStealUtil.getMaxHealth(player);
+            LifeStealUtil.setMaxHealth(player, health);
+            HeartEconomy.record(HeartEconomy.Flow.ADMIN, health - oldHealth);
+            sendTargetHealthUpdate(sender, player, oldHealth, health);
+            return new HealthChange(oldHealth, health, true);
+        }, (replyTo, change) -> {
+            sendSenderHealthUpdate(replyTo, target, change.oldHealth(), change.newHealth());
+            logger.info(String.format("Health modified by %s: %s's health set from %.1f to %.1f",
+                replyTo.getName(), target.getName(), change.oldHealth(), change.newHealth()));
+        });
     }
 
     /**
@@ -411,75 +498,167 @@ public class HealthCommand {
      * @param delta  the amount to adjust health by.
      */
     private static void adjustHealth(CommandSender sender, Player target, double delta) {
-        double oldHealth = LifeStealUtil.getMaxHealth(target);
-        double newHealth = oldHealth + delta;
+        CommandPipeline.dispatch(sender, target, player -> {
+            double oldHealth = LifeStealUtil.getMaxHealth(player);
+            double newHealth = oldHealth + delta;
+            if (newHealth <= MIN_HEALTH) {
+                return new HealthChange(oldHealth, newHealth, false);
+            }
+            LifeStealUtil.setMaxHealth(player, newHealth);
+            HeartEconomy.record(HeartEconomy.Flow.ADMIN, newHealth - oldHealth);
+            sendTargetHealthUpdate(sender, player, oldHealth, newHealth);
+            return new HealthChange(oldHealth, newHealth, true);
+        }, (replyTo, change) -> {
+            if (!change.applied()) {
+                replyTo.sendMessage(Messages.healthCannotBeZero());
+                return;
+            }
+            sendSenderHealthUpdate(replyTo, target, change.oldHealth(), change.newHealth());
+            logger.info(String.format("Health modified by %s: %s's health changed from %.1f to %.1f (delta: %.1f)",
+                replyTo.getName(), target.getName(), change.oldHealth(), change.newHealth(), delta));
+        });
+    }
+
+    /**
+     * Modifies the max health of an offline player through the {@link HeartLedger}.
+     * The change is applied on the player's next join. Relative changes are refused for
+     * players the ledger has no entry for, since their real max health is not known.
+     *
+     * @param sender     the command sender.
+     * @param playerName the name of the offline player.
+     * @param value      the new health, or the delta if {@code relative} is true.
+     * @param relative   whether {@code value} is added to the current health.
+     */
+    private static void modifyOfflineHealth(CommandSender sender, String playerName, double value, boolean relative) {
+        UUID targetId = PlayerNameIndex.resolve(playerName);
+        if (targetId == null) {
+            sender.sendMessage(Messages.playerNeverSeen(playerName));
+            return;
+        }
+        String targetName = Objects.requireNonNullElse(PlayerNameIndex.getName(targetId), playerName);
+
+        if (relative && HeartLedger.getRecord(targetId) == null) {
+            sender.sendMessage(Messages.healthUnknownOffline(targetName));
+            return;
+        }
+        double oldHealth = HeartLedger.getHealth(targetId);
+        double newHealth = relative ? oldHealth + value : value;
         if (newHealth <= MIN_HEALTH) {
             sender.sendMessage(Messages.healthCannotBeZero());
             return;
         }
-        LifeStealUtil.setMaxHealth(target, newHealth);
-        sendHealthUpdate(sender, target, oldHealth, newHealth);
-        logger.info(String.format("Health modified by %s: %s's health changed from %.1f to %.1f (delta: %.1f)",
-            sender.getName(), target.getName(), oldHealth, newHealth, delta));
+        HeartEconomy.record(HeartEconomy.Flow.ADMIN, newHealth - HeartLedger.setOffline(targetId, newHealth));
+
+        // The player may have joined while we were updating the ledger
+        Player joined = Bukkit.getPlayer(targetId);
+        if (joined != null) {
+            joined.getScheduler().run(plugin, task -> HeartLedger.applyOnJoin(joined), null);
+        }
+
+        sender.sendMessage(buildChangeMessage(targetName + "'s", oldHealth, newHealth)
+                .append(Component.text(" - applied on their next join", NamedTextColor.GRAY)));
+        logger.info(String.format("Health modified by %s: offline player %s's health changed from %.1f to %.1f",
+            sender.getName(), targetName, oldHealth, newHealth));
+    }
+
+    /**
+     * Sends the viewer an offline player's health, read from the {@link HeartLedger}.
+     *
+     * @param viewer     the command sender who views the message.
+     * @param playerName the name of the offline player.
+     */
+    private static void sendOfflineHealthMessage(CommandSender viewer, String playerName) {
+        UUID targetId = PlayerNameIndex.resolve(playerName);
+        if (targetId == null) {
+            viewer.sendMessage(Messages.playerNeverSeen(playerName));
+            return;
+        }
+        String targetName = Objects.requireNonNullElse(PlayerNameIndex.getName(targetId), playerName);
+        double health = HeartLedger.getHealth(targetId);
+        String healthPoints = String.format("%.1f", health);
+        String hearts = String.format("%.1f", health / 2.0);
+        viewer.sendMessage(Messages.healthView(targetName + "'s", healthPoints, hearts));
     }
 
     /**
      * Sends the health message to the viewer about the target's health.
+     * The health is read on the target's scheduler and shown on the viewer's.
      *
      * @param viewer the command sender who views the message.
      * @param target the player whose health is being displayed.
      */
     private static void sendHealthMessage(CommandSender viewer, Player target) {
-        double health = LifeStealUtil.getMaxHealth(target);
-        String possessive = viewer.equals(target) ? "Your" : target.getName() + "'s";
-        String healthPoints = String.format("%.1f", health);
-        String hearts = String.format("%.1f", health / 2.0);
-        viewer.sendMessage(Messages.healthView(possessive, healthPoints, hearts));
+        CommandPipeline.dispatch(viewer, target, LifeStealUtil::getMaxHealth, (replyTo, health) -> {
+            String possessive = replyTo.equals(target) ? "Your" : target.getName() + "'s";
+            String healthPoints = String.format("%.1f", health);
+            String hearts = String.format("%.1f", health / 2.0);
+            replyTo.sendMessage(Messages.healthView(possessive, healthPoints, hearts));
+        });
     }
 
     /**
-     * Sends both the sender and target an update message after a health change.
+     * Sends the target an update message after a health change. Runs on the target's thread.
      *
      * @param sender    the command sender initiating the change.
      * @param target    the player whose health was changed.
      * @param oldHealth the previous health value.
      * @param newHealth the new health value.
      */
-    private static void sendHealthUpdate(CommandSender sender, Player target, double oldHealth, double newHealth) {
+    private static void sendTargetHealthUpdate(CommandSender sender, Player target, double oldHealth, double newHealth) {
         if (Double.compare(newHealth, oldHealth) == 0) {
-            Component noChangeMsg = Component.text("No change: ", NamedTextColor.YELLOW)
-                    .append(Component.text(target.equals(sender) ? "You are" : target.getName() + " is", NamedTextColor.AQUA))
-                    .append(Component.text(" still at ", NamedTextColor.YELLOW))
-                    .append(Component.text(String.format("%.1f health points", oldHealth), NamedTextColor.GOLD))
-                    .append(Component.text(" (", NamedTextColor.GRAY))
-                    .append(Component.text(String.format("%.1f hearts", oldHealth / 2.0), NamedTextColor.GREEN))
-                    .append(Component.text(")", NamedTextColor.GRAY));
-            sender.sendMessage(noChangeMsg);
             if (!sender.equals(target)) {
-                target.sendMessage(noChangeMsg);
+                target.sendMessage(buildNoChangeMessage("You are", oldHealth));
             }
             return;
         }
+        target.sendMessage(buildChangeMessage("Your", oldHealth, newHealth));
+    }
+
+    /**
+     * Sends the sender an update message after a health change. Runs on the sender's thread.
+     *
+     * @param sender    the command sender initiating the change.
+     * @param target    the player whose health was changed.
+     * @param oldHealth the previous health value.
+     * @param newHealth the new health value.
+     */
+    private static void sendSenderHealthUpdate(CommandSender sender, Player target, double oldHealth, double newHealth) {
+        boolean self = sender.equals(target);
+        if (Double.compare(newHealth, oldHealth) == 0) {
+            sender.sendMessage(buildNoChangeMessage(self ? "You are" : target.getName() + " is", oldHealth));
+            return;
+        }
+        if (!self) {
+            sender.sendMessage(buildChangeMessage(target.getName() + "'s", oldHealth, newHealth));
+        }
+    }
+
+    /**
+     * Builds the message shown when a health change had no effect.
+     */
+    private static Component buildNoChangeMessage(String subject, double health) {
+        return Component.text("No change: ", NamedTextColor.YELLOW)
+                .append(Component.text(subject, NamedTextColor.AQUA))
+                .append(Component.text(" still at ", NamedTextColor.YELLOW))
+                .append(Component.text(String.format("%.1f health points", health), NamedTextColor.GOLD))
+                .append(Component.text(" (", NamedTextColor.GRAY))
+                .append(Component.text(String.format("%.1f hearts", health / 2.0), NamedTextColor.GREEN))
+                .append(Component.text(")", NamedTextColor.GRAY));
+    }
+
+    /**
+     * Builds the message describing a health change.
+     */
+    private static Component buildChangeMessage(String possessive, double oldHealth, double newHealth) {
         String direction = newHealth > oldHealth ? "increased" : "decreased";
         NamedTextColor changeColor = newHealth > oldHealth ? NamedTextColor.GREEN : NamedTextColor.RED;
-        Component targetMessage = Component.text("Your max health has been " + direction + " from ", NamedTextColor.AQUA)
+        return Component.text(possessive + " max health has been " + direction + " from ", NamedTextColor.AQUA)
                 .append(Component.text(String.format("%.1f", oldHealth), NamedTextColor.GOLD))
                 .append(Component.text(" to ", NamedTextColor.AQUA))
                 .append(Component.text(String.format("%.1f health points", newHealth), changeColor))
                 .append(Component.text(" (", NamedTextColor.GRAY))
                 .append(Component.text(String.format("%.1f hearts", newHealth / 2.0), NamedTextColor.RED))
                 .append(Component.text(")", NamedTextColor.GRAY));
-        target.sendMessage(targetMessage);
-        if (!sender.equals(target)) {
-            Component senderMessage = Component.text(target.getName() + "'s max health has been " + direction + " from ", NamedTextColor.AQUA)
-                    .append(Component.text(String.format("%.1f", oldHealth), NamedTextColor.GOLD))
-                    .append(Component.text(" to ", NamedTextColor.AQUA))
-                    .append(Component.text(String.format("%.1f health points", newHealth), changeColor))
-                    .append(Component.text(" (", NamedTextColor.GRAY))
-                    .append(Component.text(String.format("%.1f hearts", newHealth / 2.0), NamedTextColor.RED))
-                    .append(Component.text(")", NamedTextColor.GRAY));
-            sender.sendMessage(senderMessage);
-        }
     }
 
 
@@ -541,6 +720,14 @@ public class HealthCommand {
             Component.text("/health revive <player>", NamedTextColor.AQUA)
                 .append(Component.text(" - Revive an eliminated player", NamedTextColor.GOLD))
         );
+        source.getSender().sendMessage(
+            Component.text("/health eliminated [page]", NamedTextColor.AQUA)
+                .append(Component.text(" - List eliminated players", NamedTextColor.GOLD))
+        );
+        source.getSender().sendMessage(
+            Component.text("/health top [page]", NamedTextColor.AQUA)
+                .append(Component.text(" - Show the players with the most hearts", NamedTextColor.GOLD))
+        );
         source.getSender().sendMessage(
             Component.text("Health range: " + MIN_HEALTH + " points and above", NamedTextColor.YELLOW)
         );
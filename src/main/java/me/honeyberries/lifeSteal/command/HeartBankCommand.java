@@ -0,0 +1,353 @@
+package me.honeyberries.lifeSteal.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.manager.HeartBank;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.PlayerNameIndex;
+import me.honeyberries.lifeSteal.manager.PlayerSuggestions;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.Sound;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.UUID;
+
+/**
+ * Handles the "heartbank" command, moving heart items between a player's inventory and their {@link HeartBank}.
+ */
+public class HeartBankCommand {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+    /**
+     * The outcome of moving heart items in or out of the bank.
+     *
+     * @param items    The number of default heart items moved.
+     * @param balance  The balance afterwards.
+     * @param rejected The number of heart items refused because their serial was used up.
+     * @param full     Whether heart items were left out because the bank could not hold them.
+     */
+    private record Transfer(int items, int balance, int rejected, boolean full) {}
+
+    /**
+     * Builds the Brigadier command tree for the "heartbank" command.
+     *
+     * @return The root node of the "heartbank" command.
+     */
+    public static LiteralCommandNode<CommandSourceStack> getBuildCommand() {
+        return Commands.literal("heartbank")
+            .requires(source -> source.getSender().hasPermission("lifesteal.command.heartbank"))
+            .executes(ctx -> {
+                showBalance(ctx);
+                return Command.SINGLE_SUCCESS;
+            })
+            .then(Commands.literal("help")
+                .executes(ctx -> {
+                    sendHelpMessage(ctx.getSource().getSender());
+                    return Command.SINGLE_SUCCESS;
+                })
+            )
+            .then(Commands.literal("balance")
+                .executes(ctx -> {
+                    showBalance(ctx);
+                    return Command.SINGLE_SUCCESS;
+                })
+            )
+            .then(Commands.literal("deposit")
+                .executes(ctx -> {
+                    deposit(ctx, Integer.MAX_VALUE);
+                    return Command.SINGLE_SUCCESS;
+                })
+                .then(Commands.argument("items", IntegerArgumentType.integer(1, Integer.MAX_VALUE))
+                    .executes(ctx -> {
+                        deposit(ctx, IntegerArgumentType.getInteger(ctx, "items"));
+                        return Command.SINGLE_SUCCESS;
+                    })
+                )
+            )
+            .then(Commands.literal("withdraw")
+                .then(Commands.argument("items", IntegerArgumentType.integer(1, Integer.MAX_VALUE))
+                    .executes(ctx -> {
+                        withdraw(ctx, IntegerArgumentType.getInteger(ctx, "items"));
+                        return Command.SINGLE_SUCCESS;
+                    })
+                )
+            )
+            .then(Commands.literal("pay")
+                .then(Commands.argument("player", StringArgumentType.word())
+                    .suggests((ctx, builder) -> PlayerSuggestions.suggestOnline(builder))
+                    .then(Commands.argument("items", IntegerArgumentType.integer(1, Integer.MAX_VALUE))
+                        .executes(ctx -> {
+                            pay(ctx, StringArgumentType.getString(ctx, "player"), IntegerArgumentType.getInteger(ctx, "items"));
+                            return Command.SINGLE_SUCCESS;
+                        })
+                    )
+                )
+            )
+        .build();
+    }
+
+    /**
+     * Resolves the player running the command, if the bank is enabled.
+     *
+     * @param ctx The command context.
+     * @return The player, or null if the command cannot run.
+     */
+    private static Player requireBankUser(CommandContext<CommandSourceStack> ctx) {
+        CommandSender sender = ctx.getSource().getSender();
+        if (!LifeStealSettings.isHeartBankEnabled()) {
+            sender.sendMessage(Messages.heartBankDisabled());
+            return null;
+        }
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(Messages.consolePlayerRequired());
+            return null;
+        }
+        return player;
+    }
+
+    /**
+     * Shows the sender their balance.
+     *
+     * @param ctx The command context.
+     */
+    private static void showBalance(CommandContext<CommandSourceStack> ctx) {
+        Player player = requireBankUser(ctx);
+        if (player != null) {
+            player.sendMessage(Messages.heartBankBalance(String.valueOf(HeartBank.getBalance(player.getUniqueId()))));
+        }
+    }
+
+    /**
+     * Moves heart items from the sender's inventory into their bank.
+     * <p>
+     * The bank counts default heart items, so the amount is in default items too and a
+     * heart item of a higher tier uses up as much of it as it is worth.
+     *
+     * @param ctx   The command context.
+     * @param items The maximum number of default heart items to deposit.
+     */
+    private static void deposit(CommandContext<CommandSourceStack> ctx, int items) {
+        Player sender = requireBankUser(ctx);
+        if (sender == null) {
+            return;
+        }
+
+        // The inventory belongs to the player, so it is only touched on the player's scheduler
+        CommandPipeline.dispatch(sender, sender, player -> {
+            PlayerInventory inventory = player.getInventory();
+            ItemStack[] contents = inventory.getStorageContents();
+            long room = HeartBank.getRoom(player.getUniqueId());
+            long credited = 0;
+            int rejected = 0;
+            boolean full = false;
+            for (int slot = 0; slot < contents.length && credited < items; slot++) {
+                ItemStack stack = contents[slot];
+                if (!LifeStealUtil.isHeartItem(stack)) {
+                    continue;
+                }
+                // Balances count default heart items, other tiers are credited with what they are worth in them
+                double itemHealth = LifeStealUtil.getHeartItemHealth(stack);
+                int worth = LifeStealUtil.getWorthInBaseItems(itemHealth);
+                if (worth <= 0) {
+                    continue;
+                }
+                // Only take as many items as the bank can still hold, a lower tier further on may still fit
+                long fitting = (room - credited) / worth;
+                if (fitting <= 0) {
+                    full = true;
+                    continue;
+                }
+                int taken = (int) Math.min(Math.min(stack.getAmount(), (items - credited) / worth), fitting);
+                if (taken <= 0) {
+                    continue;
+                }
+                // Banked hearts are retired like used ones, they come back out under a new serial
+                if (!SerialRegistry.redeem(player, stack, taken)) {
+                    rejected += taken;
+                    continue;
+                }
+                credited += (long) taken * worth;
+                HeartEconomy.itemsRemoved(taken, itemHealth);
+                if (taken == stack.getAmount()) {
+                    inventory.setItem(slot, null);
+                } else {
+                    stack.setAmount(stack.getAmount() - taken);
+                }
+            }
+            // The credit never exceeds the room counted above
+            int banked = (int) credited;
+            if (banked > 0 && !HeartBank.deposit(player.getUniqueId(), banked)) {
+                // A payment filled the bank in the meantime, so the hearts go back as items
+                giveBack(player, banked);
+                banked = 0;
+                full = true;
+            }
+            return new Transfer(banked, HeartBank.getBalance(player.getUniqueId()), rejected, full);
+        }, (replyTo, transfer) -> {
+            if (transfer.rejected() > 0) {
+                replyTo.sendMessage(Messages.itemSerialReused());
+            }
+            if (transfer.full()) {
+                replyTo.sendMessage(Messages.heartBankFull(replyTo.getName()));
+            }
+            if (transfer.items() == 0) {
+                replyTo.sendMessage(Messages.heartBankNothingToDeposit());
+                return;
+            }
+            replyTo.sendMessage(Messages.heartBankDeposited(String.valueOf(transfer.items()), String.valueOf(transfer.balance())));
+        });
+    }
+
+    /**
+     * Takes heart items out of the sender's bank, only as many as fit in their inventory.
+     *
+     * @param ctx   The command context.
+     * @param items The number of heart items requested.
+     */
+    private static void withdraw(CommandContext<CommandSourceStack> ctx, int items) {
+        Player sender = requireBankUser(ctx);
+        if (sender == null) {
+            return;
+        }
+        UUID uuid = sender.getUniqueId();
+        int balance = HeartBank.getBalance(uuid);
+        if (balance < items) {
+            sender.sendMessage(Messages.heartBankNotEnough(String.valueOf(balance)));
+            return;
+        }
+
+        CommandPipeline.dispatch(sender, sender, player -> {
+            ItemStack heartItem = LifeStealUtil.createHeartItem(1);
+            int fitting = Math.min(items, countFreeSpace(player.getInventory(), heartItem));
+            if (fitting <= 0 || !HeartBank.take(uuid, fitting)) {
+                return new Transfer(0, HeartBank.getBalance(uuid), 0, false);
+            }
+            // The space was counted beforehand, so nothing is left over to drop
+            heartItem.setAmount(fitting);
+            player.getInventory().addItem(SerialRegistry.stamp(heartItem));
+            HeartEconomy.itemsCreated(fitting, LifeStealSettings.getHealthPerItem());
+            player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
+            return new Transfer(fitting, HeartBank.getBalance(uuid), 0, false);
+        }, (replyTo, transfer) -> {
+            if (transfer.items() == 0) {
+                replyTo.sendMessage(Messages.heartBankNoSpace());
+                return;
+            }
+            replyTo.sendMessage(Messages.heartBankWithdrawn(String.valueOf(transfer.items()), String.valueOf(transfer.balance())));
+            if (transfer.items() < items) {
+                replyTo.sendMessage(Messages.heartBankLimited(String.valueOf(transfer.items())));
+            }
+        });
+    }
+
+    /**
+     * Moves heart items from the sender's bank to another player's bank, online or offline.
+     *
+     * @param ctx        The command context.
+     * @param targetName The name of the receiving player.
+     * @param items      The number of heart items to pay.
+     */
+    private static void pay(CommandContext<CommandSourceStack> ctx, String targetName, int items) {
+        Player sender = requireBankUser(ctx);
+        if (sender == null) {
+            return;
+        }
+
+        Player onlineTarget = Bukkit.getPlayerExact(targetName);
+        UUID target = onlineTarget != null ? onlineTarget.getUniqueId() : PlayerNameIndex.resolve(targetName);
+        if (target == null) {
+            sender.sendMessage(Messages.playerNeverSeen(targetName));
+            return;
+        }
+        if (target.equals(sender.getUniqueId())) {
+            sender.sendMessage(Messages.heartBankPaySelf());
+            return;
+        }
+
+        String name = onlineTarget != null ? onlineTarget.getName() : targetName;
+        HeartBank.TransferResult result = HeartBank.transfer(sender.getUniqueId(), target, items);
+        if (result == HeartBank.TransferResult.NOT_ENOUGH) {
+            sender.sendMessage(Messages.heartBankNotEnough(String.valueOf(HeartBank.getBalance(sender.getUniqueId()))));
+            return;
+        }
+        if (result == HeartBank.TransferResult.RECEIVER_FULL) {
+            sender.sendMessage(Messages.heartBankFull(name));
+            return;
+        }
+
+        sender.sendMessage(Messages.heartBankPaid(String.valueOf(items), name));
+        if (onlineTarget != null) {
+            onlineTarget.sendMessage(Messages.heartBankReceived(String.valueOf(items), sender.getName()));
+        }
+        plugin.getLogger().info(sender.getName() + " paid " + items + " banked heart items to " + name + ".");
+    }
+
+    /**
+     * Gives heart items that could not be banked back to a player, under new serials.
+     * Must run on the player's scheduler.
+     *
+     * @param player    The player.
+     * @param baseItems The hearts to give back, counted in default heart items.
+     */
+    private static void giveBack(Player player, int baseItems) {
+        for (ItemStack created : LifeStealUtil.createHeartItems(baseItems)) {
+            ItemStack heartItem = SerialRegistry.stamp(created);
+            HeartEconomy.itemsCreated(heartItem.getAmount(), LifeStealUtil.getHeartItemHealth(heartItem));
+            player.getInventory().addItem(heartItem).values()
+                .forEach(item -> player.getWorld().dropItemNaturally(player.getLocation(), item));
+        }
+    }
+
+    /**
+     * Counts how many of an item fit in the empty storage slots of an inventory.
+     * Items taken out of the bank get a new serial, so they never stack onto existing stacks.
+     *
+     * @param inventory The inventory to check.
+     * @param item      The item to fit.
+     * @return The number of items that fit.
+     */
+    private static int countFreeSpace(PlayerInventory inventory, ItemStack item) {
+        int free = 0;
+        for (ItemStack stack : inventory.getStorageContents()) {
+            if (stack == null || stack.isEmpty()) {
+                free += item.getMaxStackSize();
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Sends the help message for the "heartbank" command.
+     *
+     * @param sender The command sender.
+     */
+    private static void sendHelpMessage(CommandSender sender) {
+        sender.sendMessage(Component.text("---------- Heart Bank Command Help ----------", NamedTextColor.GREEN));
+        sender.sendMessage(Component.text("/heartbank", NamedTextColor.AQUA)
+                .append(Component.text(" - Shows how many heart items are in your bank.", NamedTextColor.GOLD)));
+        sender.sendMessage(Component.text("/heartbank deposit [items]", NamedTextColor.AQUA)
+                .append(Component.text(" - Moves heart items worth up to that many default heart items into your bank (default all).", NamedTextColor.GOLD)));
+        sender.sendMessage(Component.text("/heartbank withdraw <items>", NamedTextColor.AQUA)
+                .append(Component.text(" - Takes heart items out of your bank, as many as fit in your inventory.", NamedTextColor.GOLD)));
+        sender.sendMessage(Component.text("/heartbank pay <player> <items>", NamedTextColor.AQUA)
+                .append(Component.text(" - Pays heart items from your bank to another player's bank.", NamedTextColor.GOLD)));
+        sender.sendMessage(Component.text("---------------------------------------------", NamedTextColor.GREEN));
+    }
+}
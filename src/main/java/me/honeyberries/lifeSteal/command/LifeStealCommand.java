@@ -5,17 +5,23 @@ import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
 import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.HeartTier;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.HeartLedger;
+import me.honeyberries.lifeSteal.manager.LimboWorld;
+import me.honeyberries.lifeSteal.manager.PermissionTierCache;
+import me.honeyberries.lifeSteal.recipe.HeartRecipe;
+import me.honeyberries.lifeSteal.task.PlayerDataResetJob;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
-import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.Player;
 
-import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
@@ -29,8 +35,9 @@ public class LifeStealCommand {
     // Reference to the main plugin instance
     private static final LifeSteal plugin = LifeSteal.getInstance();
 
-    // Namespaced key for the custom heart recipe
-    private static final NamespacedKey recipeKey = new NamespacedKey(plugin, "custom_heart_recipe");
+    // Namespaced keys for the custom recipes
+    private static final NamespacedKey heartRecipeKey = new NamespacedKey(plugin, LifeStealConstants.HEART_RECIPE_KEY);
+    private static final NamespacedKey revivalRecipeKey = new NamespacedKey(plugin, LifeStealConstants.REVIVAL_RECIPE_KEY);
 
     /**
      * Builds the LifeSteal command tree using the Brigadier API.
@@ -51,6 +58,20 @@ public class LifeStealCommand {
                     return Command.SINGLE_SUCCESS;
                 })
             )
+            .then(Commands.literal("reset")
+                .requires(source -> source.getSender().hasPermission("lifesteal.command.lifesteal"))
+                .executes(context -> {
+                    resetHearts(context.getSource());
+                    return Command.SINGLE_SUCCESS;
+                })
+            )
+            .then(Commands.literal("economy")
+                .requires(source -> source.getSender().hasPermission("lifesteal.command.lifesteal"))
+                .executes(context -> {
+                    showEconomy(context.getSource());
+                    return Command.SINGLE_SUCCESS;
+                })
+            )
             .then(Commands.literal("uninstall")
                 .requires(source -> source.getSender().hasPermission("lifesteal.command.lifesteal"))
                 .executes(context -> {
@@ -80,6 +101,14 @@ public class LifeStealCommand {
             Component.text("/lifesteal reload").color(NamedTextColor.AQUA)
                 .append(Component.text(" - Reload the plugin configuration.").color(NamedTextColor.GOLD))
         );
+        source.getSender().sendMessage(
+            Component.text("/lifesteal reset").color(NamedTextColor.AQUA)
+                .append(Component.text(" - Reset every player's hearts to the default.").color(NamedTextColor.GOLD))
+        );
+        source.getSender().sendMessage(
+            Component.text("/lifesteal economy").color(NamedTextColor.AQUA)
+                .append(Component.text(" - Show how many hearts exist and where they came from.").color(NamedTextColor.GOLD))
+        );
         source.getSender().sendMessage(
             Component.text("/lifesteal uninstall").color(NamedTextColor.AQUA)
                 .append(Component.text(" - Uninstall Lifesteal and reset player health.").color(NamedTextColor.GOLD))
@@ -105,6 +134,8 @@ public class LifeStealCommand {
             try {
                 LifeStealSettings.loadConfig();
                 Messages.loadMessages();
+                LimboWorld.initialize();
+                PermissionTierCache.refreshAll();
                 reloadFuture.complete(null);
             } catch (Throwable throwable) {
                 reloadFuture.completeExceptionally(throwable);
@@ -124,17 +155,86 @@ public class LifeStealCommand {
     }
 
     /**
-     * Uninstalls the plugin by resetting all players' health and removing the custom recipe.
+     * Shows the hearts on the server, held as max health, as items and in the bank,
+     * followed by every flow that created or destroyed hearts.
      *
      * @param source The command source (sender).
      */
-    private static void uninstallPlugin(CommandSourceStack source) {
-        // Reset each player's health to the default maximum value
+    private static void showEconomy(CommandSourceStack source) {
+        double healthPerItem = LifeStealSettings.getHealthPerItem();
+        source.getSender().sendMessage(
+            Component.text("----- Heart Economy -----").color(NamedTextColor.GREEN)
+        );
+        sendEconomyLine(source, "Held as max health", HeartEconomy.getHeldAsHealth());
+        sendEconomyLine(source, "Held as " + HeartEconomy.getHeartItems() + " items", HeartEconomy.getHeldAsItems());
+        if (LifeStealSettings.isHeartBankEnabled() || HeartEconomy.getBankedItems() > 0) {
+            sendEconomyLine(source, "Banked as " + HeartEconomy.getBankedItems() + " items", HeartEconomy.getBankedItems() * healthPerItem);
+        }
+        sendEconomyLine(source, "Total", HeartEconomy.getTotalHealth());
+
+        source.getSender().sendMessage(
+            Component.text("----- Flows -----").color(NamedTextColor.GREEN)
+        );
+        for (HeartEconomy.Flow flow : HeartEconomy.Flow.values()) {
+            double health = HeartEconomy.getFlow(flow);
+            sendEconomyLine(source, flow.label(), flow.isSink() ? -health : health);
+        }
+        sendEconomyLine(source, "Net from kills", HeartEconomy.getKillInflation());
+
+        // Every kill creates hearts when the killer gains more than the victim loses
+        double perKill = LifeStealSettings.getPlayerKillHealthGained() - LifeStealSettings.getPlayerDeathHealthLost();
+        if (perKill > 0) {
+            source.getSender().sendMessage(
+                Component.text("Every kill adds " + LifeStealUtil.formatHealth(perKill / LifeStealConstants.HEALTH_POINTS_PER_HEART)
+                    + " hearts to the server.").color(NamedTextColor.RED)
+            );
+        }
+    }
+
+    /**
+     * Sends one line of the heart economy.
+     *
+     * @param source The command source (sender).
+     * @param label  What the amount describes.
+     * @param health The amount in health points.
+     */
+    private static void sendEconomyLine(CommandSourceStack source, String label, double health) {
+        source.getSender().sendMessage(
+            Component.text(label + ": ").color(NamedTextColor.AQUA)
+                .append(Component.text(LifeStealUtil.formatHealth(health / LifeStealConstants.HEALTH_POINTS_PER_HEART) + " hearts")
+                    .color(NamedTextColor.GOLD))
+        );
+    }
+
+    /**
+     * Resets every player's hearts by bumping the heart epoch. Online players are reset
+     * right away, offline players when they next join, so no player data is rewritten.
+     *
+     * @param source The command source (sender).
+     */
+    private static void resetHearts(CommandSourceStack source) {
+        HeartLedger.resetAll();
         for (Player player : Bukkit.getOnlinePlayers()) {
-            LifeStealUtil.setMaxHealth(player,
-                    Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH)).getDefaultValue());
+            player.getScheduler().run(plugin, task -> LifeStealUtil.syncHeartEpoch(player), null);
+        }
+        source.getSender().sendMessage(Messages.heartsReset());
+    }
+
+    /**
+     * Uninstalls the plugin by removing the custom recipes and starting the background job
+     * that resets the health of every player, online and offline.
+     *
+     * @param source The command source (sender).
+     */
+    private static void uninstallPlugin(CommandSourceStack source) {
+        if (!PlayerDataResetJob.start(source.getSender())) {
+            source.getSender().sendMessage(Messages.uninstallAlreadyRunning());
+            return;
+        }
+        Bukkit.removeRecipe(heartRecipeKey);
+        for (HeartTier tier : LifeStealSettings.getHeartTiers()) {
+            Bukkit.removeRecipe(HeartRecipe.recipeKey(tier));
         }
-        Bukkit.removeRecipe(recipeKey);
-        source.getSender().sendMessage(Messages.pluginUninstalled());
+        Bukkit.removeRecipe(revivalRecipeKey);
     }
 }
\ No newline at end of file
@@ -10,6 +10,11 @@ import io.papermc.paper.command.brigadier.Commands;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.manager.HeartBank;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.PermissionTierCache;
+import me.honeyberries.lifeSteal.manager.PlayerSuggestions;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -26,6 +31,18 @@ import java.util.HashMap;
  */
 public class WithdrawCommand {
 
+    /**
+     * The outcome of a withdrawal on the target's thread.
+     */
+    private enum Outcome {
+        /** The hearts were withdrawn as items or into the heart bank. */
+        WITHDRAWN,
+        /** The target would drop below their minimum health. */
+        NOT_ENOUGH_HEALTH,
+        /** The target's heart bank cannot hold the hearts. */
+        BANK_FULL
+    }
+
     /**
      * Builds the Brigadier command tree for the "withdraw" command.
      *
@@ -51,13 +68,7 @@ public class WithdrawCommand {
                     return Command.SINGLE_SUCCESS;
                 })
                 .then(Commands.argument("player", StringArgumentType.string())
-                    .suggests((ctx, builder) -> {
-                        Bukkit.getOnlinePlayers().stream()
-                            .map(Player::getName)
-                            .filter(name -> name.toLowerCase().startsWith(builder.getRemaining().toLowerCase()))
-                            .forEach(builder::suggest);
-                        return builder.buildFuture();
-                    })
+                    .suggests((ctx, builder) -> PlayerSuggestions.suggestOnline(builder))
                     .requires(source -> source.getSender().hasPermission("lifesteal.command.withdraw.others"))
                     .executes(ctx -> {
                         int hearts = IntegerArgumentType.getInteger(ctx, "hearts");
@@ -113,37 +124,74 @@ public class WithdrawCommand {
             sender.sendMessage(Messages.withdrawDisabled());
             return;
         }
-        double healthPerItem = LifeStealSettings.getHealthPerItem();
-        double requiredHealth = hearts * healthPerItem;
-        double currentHealth = LifeStealUtil.getMaxHealth(target);
-
-        // Always enforce minimum health limit for withdrawal to prevent accidental elimination
-        // This applies regardless of elimination settings
-        if (LifeStealSettings.isMinHealthLimitEnabled() && 
-            currentHealth - requiredHealth < LifeStealSettings.getMinHealthLimit()) {
-            String heartsWord = hearts == 1 ? "heart" : "hearts";
-            String requiredHearts = LifeStealUtil.formatHealth(requiredHealth / 2);
-            sender.sendMessage(Messages.withdrawNotEnoughHealth(target.getName(), String.valueOf(hearts), heartsWord, requiredHearts));
+        int withdrawLimit = PermissionTierCache.getWithdrawLimit(target);
+        if (withdrawLimit > 0 && hearts > withdrawLimit) {
+            sender.sendMessage(Messages.withdrawLimitExceeded(String.valueOf(withdrawLimit), withdrawLimit == 1 ? "heart" : "hearts"));
             return;
         }
 
-        ItemStack heartItem = LifeStealUtil.createHeartItem(hearts);
-        HashMap<Integer, ItemStack> remainingItems = target.getInventory().addItem(heartItem);
-        LifeStealUtil.adjustMaxHealth(target, -requiredHealth);
-
+        double healthPerItem = LifeStealSettings.getHealthPerItem();
+        double requiredHealth = hearts * healthPerItem;
         String heartsWord = hearts == 1 ? "heart" : "hearts";
-        String healthPoints = String.valueOf((int)(requiredHealth));
-        sender.sendMessage(Messages.withdrawSuccess(String.valueOf(hearts), heartsWord, healthPoints));
-        target.playSound(target.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
 
-        if (!sender.equals(target)) {
-            target.sendMessage(Messages.withdrawSuccessOther(sender.getName(), String.valueOf(hearts), heartsWord, healthPoints));
-        }
+        // The inventory and attribute belong to the target, so mutate them on the target's scheduler
+        CommandPipeline.dispatch(sender, target, player -> {
+            double currentHealth = LifeStealUtil.getMaxHealth(player);
 
-        if (!remainingItems.isEmpty()) {
-            remainingItems.values().forEach(item -> target.getWorld().dropItemNaturally(target.getLocation(), item));
-            target.sendMessage(Messages.withdrawInventoryFull());
-        }
+            // Always enforce minimum health limit for withdrawal to prevent accidental elimination
+            // This applies regardless of elimination settings
+            if (PermissionTierCache.isMinHealthLimitEnabled(player) &&
+                currentHealth - requiredHealth < PermissionTierCache.getMinHealthLimit(player)) {
+                return Outcome.NOT_ENOUGH_HEALTH;
+            }
+
+            // With the heart bank, no items are created until the player asks for them.
+            // The hearts are banked before they are taken, so a full bank costs nothing
+            boolean banked = LifeStealSettings.isHeartBankEnabled();
+            if (banked && !HeartBank.deposit(player.getUniqueId(), hearts)) {
+                return Outcome.BANK_FULL;
+            }
+
+            LifeStealUtil.adjustMaxHealth(player, -requiredHealth);
+
+            player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
+            if (!sender.equals(player)) {
+                player.sendMessage(Messages.withdrawSuccessOther(sender.getName(), String.valueOf(hearts), heartsWord, String.valueOf((int) requiredHealth)));
+            }
+
+            if (banked) {
+                player.sendMessage(Messages.withdrawBanked(String.valueOf(HeartBank.getBalance(player.getUniqueId()))));
+                return Outcome.WITHDRAWN;
+            }
+
+            // Hand out the fewest items across heart tiers that add up to the withdrawn hearts
+            boolean dropped = false;
+            for (ItemStack created : LifeStealUtil.createHeartItems(hearts)) {
+                ItemStack heartItem = SerialRegistry.stamp(created);
+                HeartEconomy.itemsCreated(heartItem.getAmount(), LifeStealUtil.getHeartItemHealth(heartItem));
+                HashMap<Integer, ItemStack> remainingItems = player.getInventory().addItem(heartItem);
+                if (!remainingItems.isEmpty()) {
+                    remainingItems.values().forEach(item -> player.getWorld().dropItemNaturally(player.getLocation(), item));
+                    dropped = true;
+                }
+            }
+            if (dropped) {
+                player.sendMessage(Messages.withdrawInventoryFull());
+            }
+            return Outcome.WITHDRAWN;
+        }, (replyTo, outcome) -> {
+            if (outcome == Outcome.NOT_ENOUGH_HEALTH) {
+                String requiredHearts = LifeStealUtil.formatHealth(requiredHealth / 2);
+                replyTo.sendMessage(Messages.withdrawNotEnoughHealth(target.getName(), String.valueOf(hearts), heartsWord, requiredHearts));
+                return;
+            }
+            if (outcome == Outcome.BANK_FULL) {
+                replyTo.sendMessage(Messages.heartBankFull(target.getName()));
+                return;
+            }
+            String healthPoints = String.valueOf((int)(requiredHealth));
+            replyTo.sendMessage(Messages.withdrawSuccess(String.valueOf(hearts), heartsWord, healthPoints));
+        });
     }
 
     /**
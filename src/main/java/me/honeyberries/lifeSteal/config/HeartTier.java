@@ -0,0 +1,33 @@
+package me.honeyberries.lifeSteal.config;
+
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * One kind of heart item. Tier 0 is the heart item configured directly under
+ * {@code heart-item}, the others come from {@code heart-item.tiers} in the order
+ * they are listed. Items remember their tier by this index.
+ *
+ * @param index             The position of the tier, stored on every item of the tier.
+ * @param id                The key of the tier in the config, "default" for tier 0.
+ * @param name              The display name of the item.
+ * @param material          The item type, or null if the configured type is invalid.
+ * @param healthPerItem     The health the item gives when used.
+ * @param allowCrafting     Whether the tier's recipe is registered.
+ * @param recipeShape       The rows of the tier's crafting recipe.
+ * @param recipeIngredients The materials of the tier's crafting recipe by shape character.
+ */
+public record HeartTier(int index, @NotNull String id, @NotNull String name, @Nullable Material material,
+                        double healthPerItem, boolean allowCrafting,
+                        @NotNull String[] recipeShape, @NotNull Map<Character, Material> recipeIngredients) {
+
+    /**
+     * @return true if the tier's recipe has a shape and ingredients
+     */
+    public boolean hasValidRecipe() {
+        return recipeShape.length > 0 && !recipeIngredients.isEmpty();
+    }
+}
@@ -16,6 +16,7 @@ public final class LifeStealConstants {
     public static final double MIN_HEALTH_EPSILON = 0.01; // For floating point comparisons
     public static final double DEFAULT_MIN_HEALTH = 1.0;
     public static final double DEFAULT_MAX_HEALTH = 0.0; // 0 means disabled
+    public static final double DEFAULT_PLAYER_MAX_HEALTH = 20.0; // Vanilla max health
     
     // Recipe keys
     public static final String HEART_RECIPE_KEY = "custom_heart_recipe";
@@ -25,6 +26,20 @@ public final class LifeStealConstants {
     public static final String HEART_ID = "heart";
     public static final String REVIVAL_ID = "revival";
     public static final String ELIMINATED_KEY = "eliminated";
+    public static final String HEARTS_MODIFIER_KEY = "hearts"; // Max health modifier holding LifeSteal hearts
+    public static final String HEART_EPOCH_KEY = "heart_epoch";
+    public static final String LIMBO_RETURN_KEY = "limbo_return"; // Where a player in limbo returns to
+    public static final String SAVED_DISTANCES_KEY = "saved_distances"; // View, send and simulation distance before elimination
+    public static final String ITEM_SERIAL_KEY = "item_serial"; // Serial of a minted heart or revival item stack
+    public static final String ITEM_UNSTAMPED_KEY = "item_unstamped"; // Marks a recipe result that has not been given a serial yet
+    public static final String HEART_TEMPLATE_KEY = "heart_template"; // Version of the name and lore a heart item was built with
+    public static final String HEART_VALUE_KEY = "heart_value"; // Health a heart item gives
+    public static final String HEART_TIER_KEY = "heart_tier"; // Index of a heart item's tier, stored as a byte
+    
+    // Heart tiers
+    public static final String DEFAULT_HEART_TIER_ID = "default"; // The heart item configured directly under heart-item
+    public static final int MAX_HEART_TIER = Byte.MAX_VALUE; // Tier indexes have to fit the stored byte
+    public static final String HEART_INGREDIENT = "HEART"; // Revival recipe ingredient that only accepts real heart items
     
     // Default item materials
     public static final String DEFAULT_HEART_ITEM = "NETHER_STAR";
@@ -40,8 +55,31 @@ public final class LifeStealConstants {
     
     // GUI titles
     public static final String REVIVAL_GUI_TITLE = "Select Player to Revive";
+    public static final int SKULL_CACHE_SIZE = 512; // Player profiles kept for GUI heads
+    public static final long SKULL_RETRY_SECONDS = 600L; // How long a failed profile lookup is not retried
+    
+    // Per-player chunk distances
+    public static final int MIN_CHUNK_DISTANCE = 2;
+    public static final int MAX_CHUNK_DISTANCE = 32;
     
     // Scheduler delays
     public static final long RECIPE_DISCOVERY_INITIAL_DELAY = 1L;
     public static final long RECIPE_DISCOVERY_REPEAT_INTERVAL = 1L;
+    
+    // Command execution
+    public static final long COMMAND_TIMEOUT_SECONDS = 5L;
+    public static final int MAX_SUGGESTIONS = 50;
+    
+    // Persistence
+    public static final long LEDGER_FLUSH_INTERVAL_SECONDS = 30L;
+    public static final int SERIAL_PAGE_BITS = 10; // Serials per registry page, as a power of two
+    
+    // Uninstall job
+    public static final int UNINSTALL_PARALLELISM = 4; // Player files processed at once
+    public static final int UNINSTALL_MAX_FILES_PER_SECOND = 200;
+    public static final long UNINSTALL_PROGRESS_INTERVAL_SECONDS = 5L;
+    
+    // Leaderboard
+    public static final int LEADERBOARD_MAX_HEALTH = 2048; // Health points, higher values share the top bucket
+    public static final int LEADERBOARD_PAGE_SIZE = 10;
 }
@@ -3,16 +3,21 @@ package me.honeyberries.lifeSteal.config;
 import me.honeyberries.lifeSteal.LifeSteal;
 import me.honeyberries.lifeSteal.recipe.HeartRecipe;
 import me.honeyberries.lifeSteal.recipe.RevivalRecipe;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,15 +43,25 @@ public class LifeStealSettings {
     private static final String PLAYER_DEATH_HEALTH_LOST_KEY = "death-settings.player-death.health-lost";
     private static final String PLAYER_KILL_HEALTH_GAINED_KEY = "death-settings.player-death.health-gained";
     private static final String HEALTH_PER_ITEM_KEY = "heart-item.health-per-item";
+    private static final String KEEP_MINTED_VALUE_KEY = "heart-item.keep-minted-value";
     private static final String ALLOW_WITHDRAW_KEY = "features.allow-withdraw.enabled";
+    private static final String MAX_WITHDRAW_HEARTS_KEY = "features.allow-withdraw.max-hearts-per-withdraw";
+    private static final String HEART_BANK_ENABLED_KEY = "features.heart-bank.enabled";
+    private static final String PERMISSION_TIERS_ENABLED_KEY = "permission-tiers.enabled";
     private static final String ALLOW_CRAFTING_KEY = "heart-item.allow-crafting";
     private static final String IGNORE_KEEP_INVENTORY_KEY = "features.ignore-keep-inventory.enabled";
     private static final String HEART_ITEM_NAME_KEY = "heart-item.heart-item-name";
     private static final String HEART_ITEM_ID_KEY = "heart-item.heart-item-id";
     private static final String RECIPE_SHAPE_KEY = "heart-item.recipe.shape";
     private static final String RECIPE_INGREDIENTS_KEY = "heart-item.recipe.ingredients";
+    private static final String HEART_TIERS_KEY = "heart-item.tiers";
     private static final String REVIVAL_RECIPE_SHAPE_KEY = "revival-item.recipe.shape";
     private static final String REVIVAL_RECIPE_INGREDIENTS_KEY = "revival-item.recipe.ingredients";
+    private static final String KILL_HEART_DECAY_HOURS_KEY = "timed-hearts.kill-heart-decay-hours";
+    private static final String NEWBIE_PROTECTION_HOURS_KEY = "timed-hearts.newbie-protection-hours";
+    private static final String HEART_USE_COOLDOWN_SECONDS_KEY = "timed-hearts.heart-use-cooldown-seconds";
+    private static final String COMBAT_TAG_ENABLED_KEY = "combat-tag.enabled";
+    private static final String COMBAT_TAG_SECONDS_KEY = "combat-tag.duration-seconds";
 
 
     // --- Configuration Properties ---
@@ -72,9 +87,21 @@ public class LifeStealSettings {
     /** The amount of health restored when a player consumes a heart item. */
     private static double healthPerItem;
 
+    /** Whether heart items keep the health they were created with when health-per-item changes. */
+    private static boolean keepMintedValue;
+
     /** Determines if players are allowed to withdraw health to create heart items. */
     private static boolean allowWithdraw;
 
+    /** The maximum number of hearts that can be withdrawn at once. A value of 0 or less disables this limit. */
+    private static int maxWithdrawHearts;
+
+    /** Whether withdrawn hearts go to a virtual heart bank instead of the player's inventory. */
+    private static boolean heartBankEnabled;
+
+    /** Whether permission tiers such as `lifesteal.maxhealth.60` override the global limits. */
+    private static boolean permissionTiersEnabled;
+
     /** Determines if players are allowed to craft the heart item. */
     private static boolean allowCrafting;
 
@@ -92,6 +119,9 @@ public class LifeStealSettings {
 
     /** A map defining the ingredients of the crafting recipe. Each character in the {@link #recipeShape} maps to a {@link Material}. */
     private static Map<Character, Material> recipeIngredients;
+
+    /** Every kind of heart item, the one configured under `heart-item` first. */
+    private static List<HeartTier> heartTiers = List.of();
     
     /** An array of strings defining the shape of the crafting recipe for the revival item. Each string represents a row. */
     private static String[] revivalRecipeShape;
@@ -99,12 +129,48 @@ public class LifeStealSettings {
     /** A map defining the ingredients of the crafting recipe for the revival item. Each character in the {@link #revivalRecipeShape} maps to a {@link Material}. */
     private static Map<Character, Material> revivalRecipeIngredients;
 
+    /** Hours after which hearts gained from a kill are taken back. 0 or less disables decay. */
+    private static double killHeartDecayHours;
+
+    /** Hours after their first join during which new players cannot lose hearts. 0 or less disables protection. */
+    private static double newbieProtectionHours;
+
+    /** Seconds a player must wait between using heart items. 0 or less disables the cooldown. */
+    private static int heartUseCooldownSeconds;
+
+    /** Whether players who log out shortly after a fight lose hearts as if they were killed. */
+    private static boolean combatTagEnabled;
+
+    /** Seconds a player stays tagged in combat after hitting or being hit by another player. */
+    private static int combatTagSeconds;
+
     /** Whether elimination system is enabled. */
     private static boolean eliminationEnabled;
     
     /** Elimination mode: BAN or SPECTATOR. */
     private static String eliminationMode;
     
+    /** How long an elimination lasts in hours before the player is revived. 0 or less makes eliminations permanent. */
+    private static double eliminationDurationHours;
+    
+    /** Whether eliminated spectators are moved to the limbo world. */
+    private static boolean limboWorldEnabled;
+    
+    /** The name of the limbo world. */
+    private static String limboWorldName;
+    
+    /** Whether eliminated spectators get reduced view, send and simulation distances. */
+    private static boolean spectatorDistancesEnabled;
+    
+    /** The view distance of eliminated spectators, in chunks. */
+    private static int spectatorViewDistance;
+    
+    /** The chunk send distance of eliminated spectators, in chunks. */
+    private static int spectatorSendDistance;
+    
+    /** The simulation distance of eliminated spectators, in chunks. */
+    private static int spectatorSimulationDistance;
+    
     /** Whether revival is allowed. */
     private static boolean allowRevival;
     
@@ -148,14 +214,18 @@ public class LifeStealSettings {
             loadHeartItemSettings(config);
             loadRecipe(config);
             loadRevivalRecipe(config);
+            List<HeartTier> previousTiers = heartTiers;
+            loadHeartTiers(config);
             loadEliminationSettings(config);
+            loadTimedHeartSettings(config);
+            loadCombatTagSettings(config);
             loadRevivalItemSettings(config);
 
             // Validate and adjust settings as needed.
             validateHealthSettings();
 
             // Register or unregister the custom recipe based on the loaded config.
-            updateHeartRecipe();
+            updateHeartRecipes(previousTiers);
             updateRevivalRecipe();
 
             LOGGER.info("Configuration loaded successfully.");
@@ -164,6 +234,7 @@ public class LifeStealSettings {
             loadDefaultValues();
             LOGGER.warning("Plugin is running with default configuration values due to config load failure!");
         }
+        LifeStealUtil.indexHeartTiers();
         // Log the final configuration.
         logConfiguration();
     }
@@ -172,7 +243,10 @@ public class LifeStealSettings {
         maxHealthLimit = config.getDouble(MAX_HEALTH_LIMIT_KEY, 0);
         minHealthLimit = config.getDouble(MIN_HEALTH_LIMIT_KEY, 1);
         allowWithdraw = config.getBoolean(ALLOW_WITHDRAW_KEY, false);
+        maxWithdrawHearts = config.getInt(MAX_WITHDRAW_HEARTS_KEY, 0);
+        heartBankEnabled = config.getBoolean(HEART_BANK_ENABLED_KEY, false);
         ignoreKeepInventory = config.getBoolean(IGNORE_KEEP_INVENTORY_KEY, false);
+        permissionTiersEnabled = config.getBoolean(PERMISSION_TIERS_ENABLED_KEY, true);
     }
 
     private static void loadDeathSettings(YamlConfiguration config) {
@@ -184,6 +258,7 @@ public class LifeStealSettings {
 
     private static void loadHeartItemSettings(YamlConfiguration config) {
         healthPerItem = config.getDouble(HEALTH_PER_ITEM_KEY, 0);
+        keepMintedValue = config.getBoolean(KEEP_MINTED_VALUE_KEY, false);
         heartItemName = config.getString(HEART_ITEM_NAME_KEY, "Heart");
         heartItemID = config.getString(HEART_ITEM_ID_KEY, "NETHER_STAR");
         allowCrafting = config.getBoolean(ALLOW_CRAFTING_KEY, false);
@@ -192,10 +267,32 @@ public class LifeStealSettings {
     private static void loadEliminationSettings(YamlConfiguration config) {
         eliminationEnabled = config.getBoolean("elimination.enabled", true);
         eliminationMode = config.getString("elimination.mode", "SPECTATOR");
+        eliminationDurationHours = config.getDouble("elimination.duration-hours", 0);
+        limboWorldEnabled = config.getBoolean("elimination.limbo-world.enabled", false);
+        limboWorldName = config.getString("elimination.limbo-world.name", "lifesteal_limbo");
+        spectatorDistancesEnabled = config.getBoolean("elimination.spectator-distances.enabled", false);
+        spectatorViewDistance = clampDistance(config.getInt("elimination.spectator-distances.view-distance", 2));
+        spectatorSendDistance = clampDistance(config.getInt("elimination.spectator-distances.send-distance", 2));
+        spectatorSimulationDistance = clampDistance(config.getInt("elimination.spectator-distances.simulation-distance", 2));
         allowRevival = config.getBoolean("elimination.allow-revival", true);
         revivalHealth = config.getDouble("elimination.revival-health", 6);
     }
     
+    private static void loadTimedHeartSettings(YamlConfiguration config) {
+        killHeartDecayHours = config.getDouble(KILL_HEART_DECAY_HOURS_KEY, 0);
+        newbieProtectionHours = config.getDouble(NEWBIE_PROTECTION_HOURS_KEY, 0);
+        heartUseCooldownSeconds = config.getInt(HEART_USE_COOLDOWN_SECONDS_KEY, 0);
+    }
+    
+    private static void loadCombatTagSettings(YamlConfiguration config) {
+        combatTagEnabled = config.getBoolean(COMBAT_TAG_ENABLED_KEY, false);
+        combatTagSeconds = Math.max(1, config.getInt(COMBAT_TAG_SECONDS_KEY, 15));
+    }
+    
+    private static int clampDistance(int distance) {
+        return Math.max(LifeStealConstants.MIN_CHUNK_DISTANCE, Math.min(LifeStealConstants.MAX_CHUNK_DISTANCE, distance));
+    }
+    
     private static void loadRevivalItemSettings(YamlConfiguration config) {
         revivalItemName = config.getString("revival-item.revival-item-name", "Revival Beacon");
         revivalItemID = config.getString("revival-item.revival-item-id", "BEACON");
@@ -205,42 +302,74 @@ public class LifeStealSettings {
 
     private static void loadRecipe(YamlConfiguration config) {
         recipeShape = config.getStringList(RECIPE_SHAPE_KEY).toArray(new String[0]);
-        recipeIngredients = new HashMap<>();
-        if (config.isConfigurationSection(RECIPE_INGREDIENTS_KEY)) {
-            for (String key : Objects.requireNonNull(config.getConfigurationSection(RECIPE_INGREDIENTS_KEY)).getKeys(false)) {
-                String materialName = config.getString(RECIPE_INGREDIENTS_KEY + "." + key);
+        recipeIngredients = loadIngredients(config, RECIPE_INGREDIENTS_KEY, "recipe ingredients", false);
+    }
+
+    private static void loadRevivalRecipe(YamlConfiguration config) {
+        revivalRecipeShape = config.getStringList(REVIVAL_RECIPE_SHAPE_KEY).toArray(new String[0]);
+        revivalRecipeIngredients = loadIngredients(config, REVIVAL_RECIPE_INGREDIENTS_KEY, "revival recipe ingredients", true);
+    }
+
+    private static Map<Character, Material> loadIngredients(ConfigurationSection config, String path, String description, boolean allowHeart) {
+        Map<Character, Material> ingredients = new HashMap<>();
+        if (config.isConfigurationSection(path)) {
+            for (String key : Objects.requireNonNull(config.getConfigurationSection(path)).getKeys(false)) {
+                String materialName = config.getString(path + "." + key);
                 if (materialName == null) {
-                    LOGGER.warning(() -> "Missing material for key: " + key + " in recipe ingredients.");
+                    LOGGER.warning(() -> "Missing material for key: " + key + " in " + description + ".");
                     continue;
                 }
-                Material material = Material.matchMaterial(materialName);
+                // A heart ingredient is registered as the heart item's type, real hearts are enforced while crafting
+                boolean heart = allowHeart && materialName.equalsIgnoreCase(LifeStealConstants.HEART_INGREDIENT);
+                Material material = Material.matchMaterial(heart ? heartItemID : materialName);
                 if (material == null) {
-                    LOGGER.warning(() -> "Invalid material \"" + materialName + "\" for key: " + key + " in recipe ingredients.");
+                    LOGGER.warning(() -> "Invalid material \"" + materialName + "\" for key: " + key + " in " + description + ".");
                     continue;
                 }
-                recipeIngredients.put(key.charAt(0), material);
+                ingredients.put(key.charAt(0), material);
             }
         }
+        return ingredients;
     }
 
-    private static void loadRevivalRecipe(YamlConfiguration config) {
-        revivalRecipeShape = config.getStringList(REVIVAL_RECIPE_SHAPE_KEY).toArray(new String[0]);
-        revivalRecipeIngredients = new HashMap<>();
-        if (config.isConfigurationSection(REVIVAL_RECIPE_INGREDIENTS_KEY)) {
-            for (String key : Objects.requireNonNull(config.getConfigurationSection(REVIVAL_RECIPE_INGREDIENTS_KEY)).getKeys(false)) {
-                String materialName = config.getString(REVIVAL_RECIPE_INGREDIENTS_KEY + "." + key);
-                if (materialName == null) {
-                    LOGGER.warning(() -> "Missing material for key: " + key + " in revival recipe ingredients.");
-                    continue;
+    private static void loadHeartTiers(YamlConfiguration config) {
+        List<HeartTier> tiers = new ArrayList<>();
+        tiers.add(new HeartTier(0, LifeStealConstants.DEFAULT_HEART_TIER_ID, heartItemName, matchHeartMaterial(heartItemID),
+            healthPerItem, allowCrafting, recipeShape, recipeIngredients));
+
+        ConfigurationSection section = config.getConfigurationSection(HEART_TIERS_KEY);
+        if (section != null) {
+            for (String id : section.getKeys(false)) {
+                if (tiers.size() > LifeStealConstants.MAX_HEART_TIER) {
+                    LOGGER.warning(() -> "Only " + LifeStealConstants.MAX_HEART_TIER + " heart tiers are supported, ignoring \"" + id + "\".");
+                    break;
                 }
-                Material material = Material.matchMaterial(materialName);
-                if (material == null) {
-                    LOGGER.warning(() -> "Invalid material \"" + materialName + "\" for key: " + key + " in revival recipe ingredients.");
+                ConfigurationSection tier = section.getConfigurationSection(id);
+                if (tier == null) {
+                    // Keep the position, later tiers are stored on items by their index
+                    LOGGER.warning(() -> "Invalid heart tier \"" + id + "\", it is not a section.");
+                    tiers.add(new HeartTier(tiers.size(), id, id, null, 0, false, new String[0], Map.of()));
                     continue;
                 }
-                revivalRecipeIngredients.put(key.charAt(0), material);
+                tiers.add(new HeartTier(tiers.size(), id,
+                    tier.getString("heart-item-name", id),
+                    matchHeartMaterial(tier.getString("heart-item-id", heartItemID)),
+                    tier.getDouble("health-per-item", 0),
+                    tier.getBoolean("allow-crafting", false),
+                    tier.getStringList("recipe.shape").toArray(new String[0]),
+                    loadIngredients(tier, "recipe.ingredients", "heart tier " + id + " recipe ingredients", false)));
             }
         }
+        heartTiers = List.copyOf(tiers);
+    }
+
+    private static Material matchHeartMaterial(String materialName) {
+        Material material = Material.matchMaterial(materialName);
+        if (material == null || !material.isItem() || material.isAir()) {
+            LOGGER.severe("Invalid material ID in config.yml: " + materialName);
+            return null;
+        }
+        return material;
     }
 
     private static void validateHealthSettings() {
@@ -254,21 +383,28 @@ public class LifeStealSettings {
         }
     }
 
-    private static void updateHeartRecipe() {
+    private static void updateHeartRecipes(List<HeartTier> previousTiers) {
         NamespacedKey recipeKey = new NamespacedKey(plugin, LifeStealConstants.HEART_RECIPE_KEY);
-        // Always remove the old recipe before trying to add a new one.
+        // Always remove the old recipes before trying to add new ones, including those of removed tiers.
         Bukkit.removeRecipe(recipeKey);
+        for (HeartTier tier : previousTiers) {
+            Bukkit.removeRecipe(HeartRecipe.recipeKey(tier));
+        }
 
-        if (isAllowCrafting()) {
-            boolean isRecipeValid = recipeShape != null && recipeShape.length > 0 && !recipeIngredients.isEmpty();
-            if (isRecipeValid) {
-                HeartRecipe.registerHeartRecipe();
-                LOGGER.info("Registered custom heart recipe.");
+        for (HeartTier tier : heartTiers) {
+            String recipeName = tier.index() == 0 ? "heart recipe" : "recipe for heart tier " + tier.id();
+            if (!tier.allowCrafting()) {
+                if (tier.index() == 0) {
+                    LOGGER.info("Crafting is disabled. Heart recipe not registered.");
+                }
+                continue;
+            }
+            if (tier.hasValidRecipe() && tier.material() != null) {
+                HeartRecipe.registerHeartRecipe(tier);
+                LOGGER.info("Registered custom " + recipeName + ".");
             } else {
-                LOGGER.warning("Could not register heart recipe: invalid recipe definition in config.yml.");
+                LOGGER.warning("Could not register " + recipeName + ": invalid recipe definition in config.yml.");
             }
-        } else {
-            LOGGER.info("Crafting is disabled. Heart recipe not registered.");
         }
     }
     
@@ -293,15 +429,33 @@ public class LifeStealSettings {
         playerDeathHealthLost = 0;
         playerKillHealthGained = 0;
         healthPerItem = 0;
+        keepMintedValue = false;
         allowWithdraw = false;
+        maxWithdrawHearts = 0;
+        heartBankEnabled = false;
+        permissionTiersEnabled = true;
         allowCrafting = false;
         ignoreKeepInventory = false;
         heartItemName = "Heart";
         heartItemID = "NETHER_STAR";
         recipeShape = new String[0];
         recipeIngredients = new HashMap<>();
+        heartTiers = List.of(new HeartTier(0, LifeStealConstants.DEFAULT_HEART_TIER_ID, heartItemName, Material.NETHER_STAR,
+            healthPerItem, allowCrafting, recipeShape, recipeIngredients));
+        killHeartDecayHours = 0;
+        newbieProtectionHours = 0;
+        heartUseCooldownSeconds = 0;
+        combatTagEnabled = false;
+        combatTagSeconds = 15;
         eliminationEnabled = true;
         eliminationMode = "SPECTATOR";
+        eliminationDurationHours = 0;
+        limboWorldEnabled = false;
+        limboWorldName = "lifesteal_limbo";
+        spectatorDistancesEnabled = false;
+        spectatorViewDistance = 2;
+        spectatorSendDistance = 2;
+        spectatorSimulationDistance = 2;
         allowRevival = true;
         revivalHealth = 6;
         revivalItemName = "Revival Beacon";
@@ -318,13 +472,25 @@ public class LifeStealSettings {
         LOGGER.info("----------- LifeSteal Configuration -----------");
         LOGGER.info("Health Limits: Max = " + (maxHealthLimit > 0 ? maxHealthLimit : "Disabled") + ", Min = " + minHealthLimit);
         LOGGER.info("Death Settings: Natural Loss = " + naturalDeathHealthLost + ", Monster Loss = " + monsterDeathHealthLost + ", Player Loss = " + playerDeathHealthLost + ", Player Gain = " + playerKillHealthGained);
-        LOGGER.info("Heart Item: Health = " + healthPerItem + ", Name = '" + heartItemName + "', Material = " + heartItemID + ", Crafting = " + allowCrafting);
+        LOGGER.info("Heart Item: Health = " + healthPerItem + ", Keep Minted Value = " + keepMintedValue + ", Name = '" + heartItemName + "', Material = " + heartItemID + ", Crafting = " + allowCrafting);
         if (allowCrafting) {
             LOGGER.info("  Recipe Ingredients: " + recipeIngredients.size() + " ingredients defined.");
         }
+        for (HeartTier tier : heartTiers.subList(Math.min(1, heartTiers.size()), heartTiers.size())) {
+            LOGGER.info("  Heart Tier " + tier.index() + " '" + tier.id() + "': Health = " + tier.healthPerItem() + ", Name = '" + tier.name()
+                + "', Material = " + tier.material() + ", Crafting = " + tier.allowCrafting());
+        }
         LOGGER.info("Elimination: Enabled = " + eliminationEnabled + ", Mode = " + eliminationMode + ", Allow Revival = " + allowRevival + ", Revival Health = " + revivalHealth);
+        LOGGER.info("Elimination Duration: " + (eliminationDurationHours > 0 ? eliminationDurationHours + " hours" : "Permanent"));
+        LOGGER.info("Limbo World: Enabled = " + limboWorldEnabled + ", Name = '" + limboWorldName + "'");
+        LOGGER.info("Spectator Distances: Enabled = " + spectatorDistancesEnabled + ", View = " + spectatorViewDistance + ", Send = " + spectatorSendDistance + ", Simulation = " + spectatorSimulationDistance);
         LOGGER.info("Revival Item: Health = " + healthPerRevivalItem + ", Name = '" + revivalItemName + "', Material = " + revivalItemID + ", Crafting = " + allowRevivalCrafting);
-        LOGGER.info("Features: Allow Withdraw = " + allowWithdraw + ", Ignore KeepInventory = " + ignoreKeepInventory);
+        LOGGER.info("Features: Allow Withdraw = " + allowWithdraw + " (Max = " + (maxWithdrawHearts > 0 ? maxWithdrawHearts : "Unlimited") + "), Heart Bank = " + heartBankEnabled + ", Ignore KeepInventory = " + ignoreKeepInventory);
+        LOGGER.info("Permission Tiers: Enabled = " + permissionTiersEnabled);
+        LOGGER.info("Timed Hearts: Kill Heart Decay = " + (killHeartDecayHours > 0 ? killHeartDecayHours + "h" : "Disabled")
+            + ", Newbie Protection = " + (newbieProtectionHours > 0 ? newbieProtectionHours + "h" : "Disabled")
+            + ", Heart Use Cooldown = " + (heartUseCooldownSeconds > 0 ? heartUseCooldownSeconds + "s" : "Disabled"));
+        LOGGER.info("Combat Tag: Enabled = " + combatTagEnabled + ", Duration = " + combatTagSeconds + "s");
         LOGGER.info("--------------------------------------------");
     }
 
@@ -391,6 +557,15 @@ public class LifeStealSettings {
         return healthPerItem;
     }
 
+    /**
+     * Indicates whether heart items keep the health they were created with after health-per-item changes.
+     *
+     * @return `true` if heart items keep their minted value, `false` if they always give the current value.
+     */
+    public static boolean isKeepMintedValue() {
+        return keepMintedValue;
+    }
+
     /**
      * Indicates whether players are allowed to withdraw health to create heart items.
      *
@@ -400,6 +575,33 @@ public class LifeStealSettings {
         return allowWithdraw;
     }
 
+    /**
+     * Returns the maximum number of hearts that can be withdrawn at once.
+     *
+     * @return The withdraw limit in hearts, or 0 or less if unlimited.
+     */
+    public static int getMaxWithdrawHearts() {
+        return maxWithdrawHearts;
+    }
+
+    /**
+     * Checks if withdrawn hearts are credited to the virtual heart bank.
+     *
+     * @return `true` if the heart bank is enabled, `false` otherwise.
+     */
+    public static boolean isHeartBankEnabled() {
+        return heartBankEnabled;
+    }
+
+    /**
+     * Indicates whether permission tiers override the global health and withdraw limits.
+     *
+     * @return `true` if permission tiers are enabled, `false` otherwise.
+     */
+    public static boolean isPermissionTiersEnabled() {
+        return permissionTiersEnabled;
+    }
+
     /**
      * Indicates whether crafting of the heart item is enabled.
      *
@@ -460,6 +662,17 @@ public class LifeStealSettings {
         return recipeIngredients;
     }
 
+    /**
+     * Returns every kind of heart item. The heart item configured under `heart-item` is
+     * always first, followed by the tiers under `heart-item.tiers` in the order they are listed.
+     *
+     * @return An immutable list of heart tiers, indexed by {@link HeartTier#index()}.
+     */
+    @NotNull
+    public static List<HeartTier> getHeartTiers() {
+        return heartTiers;
+    }
+
     /**
      * Returns the shape of the crafting recipe for the revival item. Each string in the array represents a row.
      *
@@ -500,6 +713,60 @@ public class LifeStealSettings {
         return minHealthLimit > 0;
     }
     
+    /**
+     * Gets how long hearts gained from a kill last before they are taken back.
+     *
+     * @return The decay time in milliseconds, or 0 if kill hearts never decay.
+     */
+    public static long getKillHeartDecayMillis() {
+        return killHeartDecayHours > 0 ? (long) (killHeartDecayHours * TimeUnit.HOURS.toMillis(1)) : 0L;
+    }
+    
+    /**
+     * Gets how long new players are protected from losing hearts after their first join.
+     *
+     * @return The protection time in milliseconds, or 0 if there is no protection.
+     */
+    public static long getNewbieProtectionMillis() {
+        return newbieProtectionHours > 0 ? (long) (newbieProtectionHours * TimeUnit.HOURS.toMillis(1)) : 0L;
+    }
+    
+    /**
+     * Gets the protection time in hours, for display.
+     *
+     * @return The protection time in hours.
+     */
+    public static double getNewbieProtectionHours() {
+        return newbieProtectionHours;
+    }
+    
+    /**
+     * Gets how long a player must wait between using heart items.
+     *
+     * @return The cooldown in milliseconds, or 0 if there is no cooldown.
+     */
+    public static long getHeartUseCooldownMillis() {
+        return heartUseCooldownSeconds > 0 ? TimeUnit.SECONDS.toMillis(heartUseCooldownSeconds) : 0L;
+    }
+    
+    /**
+     * Checks if players who log out while tagged in combat are punished.
+     *
+     * @return `true` if combat tagging is enabled, `false` otherwise.
+     */
+    public static boolean isCombatTagEnabled() {
+        return combatTagEnabled;
+    }
+    
+    /**
+     * Gets how long a player stays tagged in combat after a hit.
+     *
+     * @return The tag duration in seconds.
+     */
+    public static int getCombatTagSeconds() {
+        return combatTagSeconds;
+    }
+    
     /**
      * Checks if the elimination system is enabled.
      *
@@ -519,6 +786,70 @@ public class LifeStealSettings {
         return eliminationMode;
     }
     
+    /**
+     * Gets how long an elimination lasts before the player is revived automatically.
+     *
+     * @return The duration in milliseconds, or 0 if eliminations are permanent.
+     */
+    public static long getEliminationDurationMillis() {
+        return eliminationDurationHours > 0 ? (long) (eliminationDurationHours * TimeUnit.HOURS.toMillis(1)) : 0L;
+    }
+    
+    /**
+     * Checks if eliminated spectators are moved to the limbo world.
+     *
+     * @return `true` if the limbo world is enabled, `false` otherwise.
+     */
+    public static boolean isLimboWorldEnabled() {
+        return limboWorldEnabled;
+    }
+    
+    /**
+     * Gets the name of the limbo world.
+     *
+     * @return The limbo world name.
+     */
+    @NotNull
+    public static String getLimboWorldName() {
+        return limboWorldName;
+    }
+    
+    /**
+     * Checks if eliminated spectators get reduced view, send and simulation distances.
+     *
+     * @return `true` if spectator distances are enabled, `false` otherwise.
+     */
+    public static boolean isSpectatorDistancesEnabled() {
+        return spectatorDistancesEnabled;
+    }
+    
+    /**
+     * Gets the view distance of eliminated spectators.
+     *
+     * @return The view distance in chunks.
+     */
+    public static int getSpectatorViewDistance() {
+        return spectatorViewDistance;
+    }
+    
+    /**
+     * Gets the chunk send distance of eliminated spectators.
+     *
+     * @return The send distance in chunks.
+     */
+    public static int getSpectatorSendDistance() {
+        return spectatorSendDistance;
+    }
+    
+    /**
+     * Gets the simulation distance of eliminated spectators.
+     *
+     * @return The simulation distance in chunks.
+     */
+    public static int getSpectatorSimulationDistance() {
+        return spectatorSimulationDistance;
+    }
+    
     /**
      * Checks if revival is allowed.
      *
@@ -28,9 +28,23 @@ public class Messages {
     
     // Heart item messages
     private static String heartUsed;
+    private static String heartsUsedBulk;
     private static String heartDisabled;
     private static String maxHealthLimitReached;
     private static String maxHealthLimitExceeded;
+    private static String heartCooldown;
+    private static String itemSerialReused;
+    
+    // Timed heart messages
+    private static String protectionStarted;
+    private static String protectionEnded;
+    private static String protectedDeath;
+    private static String heartsDecayed;
+    
+    // Combat tag messages
+    private static String combatTagged;
+    private static String combatUntagged;
+    private static String combatLogCredit;
     
     // Withdraw messages
     private static String withdrawDisabled;
@@ -38,6 +52,22 @@ public class Messages {
     private static String withdrawSuccess;
     private static String withdrawSuccessOther;
     private static String withdrawInventoryFull;
+    private static String withdrawLimitExceeded;
+    private static String withdrawBanked;
+    
+    // Heart bank messages
+    private static String heartBankDisabled;
+    private static String heartBankBalance;
+    private static String heartBankDeposited;
+    private static String heartBankNothingToDeposit;
+    private static String heartBankWithdrawn;
+    private static String heartBankLimited;
+    private static String heartBankNoSpace;
+    private static String heartBankNotEnough;
+    private static String heartBankPaySelf;
+    private static String heartBankPaid;
+    private static String heartBankReceived;
+    private static String heartBankFull;
     
     // Health command messages
     private static String healthView;
@@ -45,8 +75,12 @@ public class Messages {
     private static String healthAdd;
     private static String healthRemove;
     private static String healthCannotBeZero;
+    private static String healthUnknownOffline;
     private static String playerNotFound;
+    private static String playerNeverSeen;
     private static String consolePlayerRequired;
+    private static String targetUnavailable;
+    private static String commandFailed;
     
     // Elimination messages
     private static String eliminatedSpectator;
@@ -54,10 +88,17 @@ public class Messages {
     private static String playerRevived;
     private static String noEliminatedPlayers;
     private static String revivalItemDisabled;
+    private static String alreadyRevived;
+    private static String revivalItemRequired;
     
     // General messages
     private static String configReloaded;
     private static String pluginUninstalled;
+    private static String uninstallStarted;
+    private static String uninstallProgress;
+    private static String uninstallIncomplete;
+    private static String uninstallAlreadyRunning;
+    private static String heartsReset;
     
     /**
      * Loads all messages from the configuration file.
@@ -83,12 +124,36 @@ public class Messages {
             // Load heart item messages
             heartUsed = config.getString("messages.heart-item.used",
                 "<gray>You gained <green>{hearts} {hearts_word}</green>!");
+            heartsUsedBulk = config.getString("messages.heart-item.used-bulk",
+                "<gray>You used <gold>{items}</gold> heart items and gained <green>{hearts} {hearts_word}</green>!");
             heartDisabled = config.getString("messages.heart-item.disabled",
                 "<red>Heart items are currently disabled on this server.");
             maxHealthLimitReached = config.getString("messages.heart-item.max-health-limit-reached",
                 "<red>You have reached the maximum health limit of <gold>{hearts} {hearts_word}</gold>.");
             maxHealthLimitExceeded = config.getString("messages.heart-item.max-health-limit-exceeded",
                 "<red>You will exceed the maximum health limit of <gold>{hearts} {hearts_word}</gold>.");
+            heartCooldown = config.getString("messages.heart-item.cooldown",
+                "<red>You can use another heart item in <gold>{seconds}</gold> seconds.");
+            itemSerialReused = config.getString("messages.heart-item.reused-serial",
+                "<red>This item has already been used and cannot be redeemed.");
+            
+            // Load timed heart messages
+            protectionStarted = config.getString("messages.timed-hearts.protection-started",
+                "<green>You cannot lose hearts for the next <gold>{hours}</gold> hours.");
+            protectionEnded = config.getString("messages.timed-hearts.protection-ended",
+                "<yellow>Your newbie protection has ended. You can now lose hearts.");
+            protectedDeath = config.getString("messages.timed-hearts.protected-death",
+                "<green>Your newbie protection kept you from losing hearts.");
+            heartsDecayed = config.getString("messages.timed-hearts.hearts-decayed",
+                "<gray><red>{hearts} {hearts_word}</red> gained from a kill wore off.");
+            
+            // Load combat tag messages
+            combatTagged = config.getString("messages.combat.tagged",
+                "<red>You are in combat! Logging out in the next <gold>{seconds}</gold> seconds will cost you hearts.");
+            combatUntagged = config.getString("messages.combat.untagged",
+                "<green>You are no longer in combat.");
+            combatLogCredit = config.getString("messages.combat.logged-out",
+                "<gray><yellow>{player}</yellow> logged out in combat. You gained <green>{hearts} {hearts_word}</green>.");
             
             // Load withdraw messages
             withdrawDisabled = config.getString("messages.withdraw.disabled",
@@ -101,6 +166,36 @@ public class Messages {
                 "<red>{sender} has withdrawn <red>{hearts} {hearts_word} ({health_points} health points)</red> from you!");
             withdrawInventoryFull = config.getString("messages.withdraw.inventory-full",
                 "<yellow>Warning: Some heart items were dropped due to a full inventory!");
+            withdrawLimitExceeded = config.getString("messages.withdraw.limit-exceeded",
+                "<red>You can only withdraw up to <gold>{limit} {hearts_word}</gold> at once.");
+            withdrawBanked = config.getString("messages.withdraw.banked",
+                "<gray>The heart items were added to your heart bank. Balance: <gold>{balance}</gold>.");
+            
+            // Load heart bank messages
+            heartBankDisabled = config.getString("messages.heart-bank.disabled",
+                "<red>The heart bank is disabled on this server.");
+            heartBankBalance = config.getString("messages.heart-bank.balance",
+                "<gray>You have <gold>{balance}</gold> heart items in your heart bank.");
+            heartBankDeposited = config.getString("messages.heart-bank.deposited",
+                "<gray>You deposited <gold>{items}</gold> heart items. Balance: <gold>{balance}</gold>.");
+            heartBankNothingToDeposit = config.getString("messages.heart-bank.nothing-to-deposit",
+                "<red>You have no heart items to deposit.");
+            heartBankWithdrawn = config.getString("messages.heart-bank.withdrawn",
+                "<gray>You took <gold>{items}</gold> heart items out of your heart bank. Balance: <gold>{balance}</gold>.");
+            heartBankLimited = config.getString("messages.heart-bank.limited",
+                "<yellow>Only <gold>{items}</gold> heart items fit in your inventory, the rest stay in your heart bank.");
+            heartBankNoSpace = config.getString("messages.heart-bank.no-space",
+                "<red>Your inventory has no room for heart items.");
+            heartBankNotEnough = config.getString("messages.heart-bank.not-enough",
+                "<red>You only have <gold>{balance}</gold> heart items in your heart bank.");
+            heartBankPaySelf = config.getString("messages.heart-bank.pay-self",
+                "<red>You cannot pay yourself.");
+            heartBankPaid = config.getString("messages.heart-bank.paid",
+                "<gray>You paid <gold>{items}</gold> heart items to <yellow>{player}</yellow>.");
+            heartBankReceived = config.getString("messages.heart-bank.received",
+                "<gray><yellow>{player}</yellow> paid you <gold>{items}</gold> heart items.");
+            heartBankFull = config.getString("messages.heart-bank.full",
+                "<red><yellow>{player}</yellow>'s heart bank cannot hold that many more heart items.");
             
             // Load health command messages
             healthView = config.getString("messages.health.view",
@@ -113,10 +208,18 @@ public class Messages {
                 "<aqua>{possessive} max health has been decreased from <gold>{old_health}</gold> to <red>{new_health} health points</red> <gray>(<red>{new_hearts} hearts</red>)</gray>");
             healthCannotBeZero = config.getString("messages.health.cannot-be-zero",
                 "<red>Health cannot be set to 0 or lower.");
+            healthUnknownOffline = config.getString("messages.health.unknown-offline",
+                "<red>{player}'s max health is unknown until they join, so it can only be set, not changed.");
             playerNotFound = config.getString("messages.general.player-not-found",
                 "<red>Player '{player}' is not online.");
+            playerNeverSeen = config.getString("messages.general.player-never-seen",
+                "<red>Player '{player}' has never been seen on this server.");
             consolePlayerRequired = config.getString("messages.general.console-player-required",
                 "<red>Console must specify a player.");
+            targetUnavailable = config.getString("messages.general.target-unavailable",
+                "<red>{player} went offline before the command could complete.");
+            commandFailed = config.getString("messages.general.command-failed",
+                "<red>The command for {player} failed. Check console for details.");
             
             // Load elimination messages
             eliminatedSpectator = config.getString("messages.elimination.spectator",
@@ -129,12 +232,26 @@ public class Messages {
                 "<red>There are no eliminated players to revive.");
             revivalItemDisabled = config.getString("messages.elimination.revival-disabled",
                 "<red>Revival is currently disabled on this server.");
+            alreadyRevived = config.getString("messages.elimination.already-revived",
+                "<red>{player} is not eliminated or has already been revived.");
+            revivalItemRequired = config.getString("messages.elimination.revival-item-required",
+                "<red>You need to hold a revival item to revive a player.");
             
             // Load general messages
             configReloaded = config.getString("messages.general.config-reloaded",
                 "<green>LifeSteal configuration reloaded successfully!");
             pluginUninstalled = config.getString("messages.general.plugin-uninstalled",
                 "<green>LifeSteal uninstalled successfully!");
+            uninstallStarted = config.getString("messages.general.uninstall-started",
+                "<yellow>Resetting the max health of {total} player files. This runs in the background.");
+            uninstallProgress = config.getString("messages.general.uninstall-progress",
+                "<gray>Uninstall: {done}/{total} player files reset ({percent}%), about {eta} left.");
+            uninstallIncomplete = config.getString("messages.general.uninstall-incomplete",
+                "<red>{failed} player files could not be reset. Run /lifesteal uninstall again to retry them.");
+            uninstallAlreadyRunning = config.getString("messages.general.uninstall-already-running",
+                "<red>An uninstall is already running.");
+            heartsReset = config.getString("messages.general.hearts-reset",
+                "<green>Every player's hearts were reset. Offline players are reset when they next join.");
             
             LOGGER.info("Messages loaded successfully.");
         } catch (Exception e) {
@@ -154,32 +271,70 @@ public class Messages {
         maxHealthReached = "<gray>Your health cannot go above the maximum of <gold>{hearts} {hearts_word}</gold>.";
         
         heartUsed = "<gray>You gained <green>{hearts} {hearts_word}</green>!";
+        heartsUsedBulk = "<gray>You used <gold>{items}</gold> heart items and gained <green>{hearts} {hearts_word}</green>!";
         heartDisabled = "<red>Heart items are currently disabled on this server.";
         maxHealthLimitReached = "<red>You have reached the maximum health limit of <gold>{hearts} {hearts_word}</gold>.";
         maxHealthLimitExceeded = "<red>You will exceed the maximum health limit of <gold>{hearts} {hearts_word}</gold>.";
+        heartCooldown = "<red>You can use another heart item in <gold>{seconds}</gold> seconds.";
+        itemSerialReused = "<red>This item has already been used and cannot be redeemed.";
+        
+        protectionStarted = "<green>You cannot lose hearts for the next <gold>{hours}</gold> hours.";
+        protectionEnded = "<yellow>Your newbie protection has ended. You can now lose hearts.";
+        protectedDeath = "<green>Your newbie protection kept you from losing hearts.";
+        heartsDecayed = "<gray><red>{hearts} {hearts_word}</red> gained from a kill wore off.";
+        
+        combatTagged = "<red>You are in combat! Logging out in the next <gold>{seconds}</gold> seconds will cost you hearts.";
+        combatUntagged = "<green>You are no longer in combat.";
+        combatLogCredit = "<gray><yellow>{player}</yellow> logged out in combat. You gained <green>{hearts} {hearts_word}</green>.";
         
         withdrawDisabled = "<red>Heart withdrawal is disabled on this server.";
         withdrawNotEnoughHealth = "<red>{player} doesn't have enough health to withdraw {hearts} {hearts_word} (requires {required_hearts} hearts)!";
         withdrawSuccess = "<gold>You have withdrawn <green>{hearts} {hearts_word} ({health_points} health points)</green>.";
         withdrawSuccessOther = "<red>{sender} has withdrawn <red>{hearts} {hearts_word} ({health_points} health points)</red> from you!";
         withdrawInventoryFull = "<yellow>Warning: Some heart items were dropped due to a full inventory!";
+        withdrawLimitExceeded = "<red>You can only withdraw up to <gold>{limit} {hearts_word}</gold> at once.";
+        withdrawBanked = "<gray>The heart items were added to your heart bank. Balance: <gold>{balance}</gold>.";
+        
+        heartBankDisabled = "<red>The heart bank is disabled on this server.";
+        heartBankBalance = "<gray>You have <gold>{balance}</gold> heart items in your heart bank.";
+        heartBankDeposited = "<gray>You deposited <gold>{items}</gold> heart items. Balance: <gold>{balance}</gold>.";
+        heartBankNothingToDeposit = "<red>You have no heart items to deposit.";
+        heartBankWithdrawn = "<gray>You took <gold>{items}</gold> heart items out of your heart bank. Balance: <gold>{balance}</gold>.";
+        heartBankLimited = "<yellow>Only <gold>{items}</gold> heart items fit in your inventory, the rest stay in your heart bank.";
+        heartBankNoSpace = "<red>Your inventory has no room for heart items.";
+        heartBankNotEnough = "<red>You only have <gold>{balance}</gold> heart items in your heart bank.";
+        heartBankPaySelf = "<red>You cannot pay yourself.";
+        heartBankPaid = "<gray>You paid <gold>{items}</gold> heart items to <yellow>{player}</yellow>.";
+        heartBankReceived = "<gray><yellow>{player}</yellow> paid you <gold>{items}</gold> heart items.";
+        heartBankFull = "<red><yellow>{player}</yellow>'s heart bank cannot hold that many more heart items.";
         
         healthView = "<aqua>{possessive} health: <gold>{health_points} health points</gold> <gray>(<green>{hearts} hearts</green>)</gray>";
         healthSet = "<aqua>{possessive} max health has been {direction} from <gold>{old_health}</gold> to <{color}>{new_health} health points</{color}> <gray>(<red>{new_hearts} hearts</red>)</gray>";
         healthAdd = "<aqua>{possessive} max health has been increased from <gold>{old_health}</gold> to <green>{new_health} health points</green> <gray>(<red>{new_hearts} hearts</red>)</gray>";
         healthRemove = "<aqua>{possessive} max health has been decreased from <gold>{old_health}</gold> to <red>{new_health} health points</red> <gray>(<red>{new_hearts} hearts</red>)</gray>";
         healthCannotBeZero = "<red>Health cannot be set to 0 or lower.";
+        healthUnknownOffline = "<red>{player}'s max health is unknown until they join, so it can only be set, not changed.";
         playerNotFound = "<red>Player '{player}' is not online.";
+        playerNeverSeen = "<red>Player '{player}' has never been seen on this server.";
         consolePlayerRequired = "<red>Console must specify a player.";
+        targetUnavailable = "<red>{player} went offline before the command could complete.";
+        commandFailed = "<red>The command for {player} failed. Check console for details.";
         
         eliminatedSpectator = "<red>You have been eliminated! You are now a spectator.";
         eliminatedBanKick = "<red>You have been eliminated! You ran out of hearts.";
         playerRevived = "<green>{player} has been revived and given {hearts} {hearts_word}!";
         noEliminatedPlayers = "<red>There are no eliminated players to revive.";
         revivalItemDisabled = "<red>Revival is currently disabled on this server.";
+        alreadyRevived = "<red>{player} is not eliminated or has already been revived.";
+        revivalItemRequired = "<red>You need to hold a revival item to revive a player.";
         
         configReloaded = "<green>LifeSteal configuration reloaded successfully!";
         pluginUninstalled = "<green>LifeSteal uninstalled successfully!";
+        uninstallStarted = "<yellow>Resetting the max health of {total} player files. This runs in the background.";
+        uninstallProgress = "<gray>Uninstall: {done}/{total} player files reset ({percent}%), about {eta} left.";
+        uninstallIncomplete = "<red>{failed} player files could not be reset. Run /lifesteal uninstall again to retry them.";
+        uninstallAlreadyRunning = "<red>An uninstall is already running.";
+        heartsReset = "<green>Every player's hearts were reset. Offline players are reset when they next join.";
     }
     
     // Helper method to replace placeholders and format message
@@ -219,6 +374,10 @@ public class Messages {
         return format(heartUsed, "hearts", hearts, "hearts_word", heartsWord);
     }
     
+    public static Component heartsUsedBulk(String items, String hearts, String heartsWord) {
+        return format(heartsUsedBulk, "items", items, "hearts", hearts, "hearts_word", heartsWord);
+    }
+    
     public static Component heartDisabled() {
         return format(heartDisabled);
     }
@@ -231,6 +390,44 @@ public class Messages {
         return format(maxHealthLimitExceeded, "hearts", hearts, "hearts_word", heartsWord);
     }
     
+    public static Component heartCooldown(String seconds) {
+        return format(heartCooldown, "seconds", seconds);
+    }
+    
+    public static Component itemSerialReused() {
+        return format(itemSerialReused);
+    }
+    
+    // Timed heart messages
+    public static Component protectionStarted(String hours) {
+        return format(protectionStarted, "hours", hours);
+    }
+    
+    public static Component protectionEnded() {
+        return format(protectionEnded);
+    }
+    
+    public static Component protectedDeath() {
+        return format(protectedDeath);
+    }
+    
+    public static Component heartsDecayed(String hearts, String heartsWord) {
+        return format(heartsDecayed, "hearts", hearts, "hearts_word", heartsWord);
+    }
+    
+    // Combat tag messages
+    public static Component combatTagged(String seconds) {
+        return format(combatTagged, "seconds", seconds);
+    }
+    
+    public static Component combatUntagged() {
+        return format(combatUntagged);
+    }
+    
+    public static Component combatLogCredit(String player, String hearts, String heartsWord) {
+        return format(combatLogCredit, "player", player, "hearts", hearts, "hearts_word", heartsWord);
+    }
+    
     // Withdraw messages
     public static Component withdrawDisabled() {
         return format(withdrawDisabled);
@@ -252,6 +449,63 @@ public class Messages {
         return format(withdrawInventoryFull);
     }
     
+    public static Component withdrawLimitExceeded(String limit, String heartsWord) {
+        return format(withdrawLimitExceeded, "limit", limit, "hearts_word", heartsWord);
+    }
+    
+    public static Component withdrawBanked(String balance) {
+        return format(withdrawBanked, "balance", balance);
+    }
+    
+    // Heart bank messages
+    public static Component heartBankDisabled() {
+        return format(heartBankDisabled);
+    }
+    
+    public static Component heartBankBalance(String balance) {
+        return format(heartBankBalance, "balance", balance);
+    }
+    
+    public static Component heartBankDeposited(String items, String balance) {
+        return format(heartBankDeposited, "items", items, "balance", balance);
+    }
+    
+    public static Component heartBankNothingToDeposit() {
+        return format(heartBankNothingToDeposit);
+    }
+    
+    public static Component heartBankWithdrawn(String items, String balance) {
+        return format(heartBankWithdrawn, "items", items, "balance", balance);
+    }
+    
+    public static Component heartBankLimited(String items) {
+        return format(heartBankLimited, "items", items);
+    }
+    
+    public static Component heartBankNoSpace() {
+        return format(heartBankNoSpace);
+    }
+    
+    public static Component heartBankNotEnough(String balance) {
+        return format(heartBankNotEnough, "balance", balance);
+    }
+    
+    public static Component heartBankPaySelf() {
+        return format(heartBankPaySelf);
+    }
+    
+    public static Component heartBankPaid(String items, String player) {
+        return format(heartBankPaid, "items", items, "player", player);
+    }
+    
+    public static Component heartBankReceived(String items, String player) {
+        return format(heartBankReceived, "items", items, "player", player);
+    }
+    
+    public static Component heartBankFull(String player) {
+        return format(heartBankFull, "player", player);
+    }
+    
     // Health command messages
     public static Component healthView(String possessive, String healthPoints, String hearts) {
         return format(healthView, "possessive", possessive, "health_points", healthPoints, "hearts", hearts);
@@ -265,14 +519,30 @@ public class Messages {
         return format(healthCannotBeZero);
     }
     
+    public static Component healthUnknownOffline(String player) {
+        return format(healthUnknownOffline, "player", player);
+    }
+    
     public static Component playerNotFound(String player) {
         return format(playerNotFound, "player", player);
     }
     
+    public static Component playerNeverSeen(String player) {
+        return format(playerNeverSeen, "player", player);
+    }
+    
     public static Component consolePlayerRequired() {
         return format(consolePlayerRequired);
     }
     
+    public static Component targetUnavailable(String player) {
+        return format(targetUnavailable, "player", player);
+    }
+    
+    public static Component commandFailed(String player) {
+        return format(commandFailed, "player", player);
+    }
+    
     // Elimination messages
     public static Component eliminatedSpectator() {
         return format(eliminatedSpectator);
@@ -294,6 +564,14 @@ public class Messages {
         return format(revivalItemDisabled);
     }
     
+    public static Component alreadyRevived(String player) {
+        return format(alreadyRevived, "player", player);
+    }
+    
+    public static Component revivalItemRequired() {
+        return format(revivalItemRequired);
+    }
+    
     // General messages
     public static Component configReloaded() {
         return format(configReloaded);
@@ -302,4 +580,24 @@ public class Messages {
     public static Component pluginUninstalled() {
         return format(pluginUninstalled);
     }
+    
+    public static Component uninstallStarted(String total) {
+        return format(uninstallStarted, "total", total);
+    }
+    
+    public static Component uninstallProgress(String done, String total, String percent, String eta) {
+        return format(uninstallProgress, "done", done, "total", total, "percent", percent, "eta", eta);
+    }
+    
+    public static Component uninstallIncomplete(String failed) {
+        return format(uninstallIncomplete, "failed", failed);
+    }
+    
+    public static Component uninstallAlreadyRunning() {
+        return format(uninstallAlreadyRunning);
+    }
+    
+    public static Component heartsReset() {
+        return format(heartsReset);
+    }
 }
@@ -0,0 +1,203 @@
+package me.honeyberries.lifeSteal.gui;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.manager.EliminationRoster;
+import me.honeyberries.lifeSteal.manager.SkullProfileCache;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The paginated revival GUI.
+ * <p>
+ * The top five rows show one page of eliminated players and the bottom row holds the
+ * page and sort controls. Only the visible page is rendered. Pages are cut from the sorted
+ * views of the {@link EliminationRoster}, so opening the GUI or turning a page costs the
+ * same no matter how many players are eliminated. Heads use
+ * profiles from the {@link SkullProfileCache} and never resolve a profile on the tick.
+ */
+public class RevivalMenu {
+
+    private static final int SIZE = 54;
+    private static final int PAGE_SIZE = 45;
+    private static final int PREVIOUS_SLOT = 45;
+    private static final int SORT_SLOT = 49;
+    private static final int NEXT_SLOT = 53;
+    private static final Component TITLE = Component.text(LifeStealConstants.REVIVAL_GUI_TITLE);
+
+    /**
+     * The orders the roster can be shown in.
+     */
+    public enum Sort {
+        RECENT("Most recent"),
+        NAME("Name");
+
+        private final String label;
+
+        Sort(String label) {
+            this.label = label;
+        }
+
+        private Sort next() {
+            return values()[(ordinal() + 1) % values().length];
+        }
+    }
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+
+    /**
+     * Opens the revival GUI on its first page. Must run on the viewer's scheduler.
+     *
+     * @param viewer The player opening the GUI
+     */
+    public static void open(@NotNull Player viewer) {
+        RevivalMenuHolder holder = new RevivalMenuHolder(PAGE_SIZE);
+        holder.setInventory(Bukkit.createInventory(holder, SIZE, TITLE));
+        render(viewer, holder);
+        viewer.openInventory(holder.getInventory());
+    }
+
+    /**
+     * Handles a click in a revival GUI. Page and sort controls are handled here.
+     *
+     * @param viewer The player who clicked
+     * @param holder The holder of the clicked GUI
+     * @param slot   The raw slot that was clicked
+     * @return The UUID of the player whose head was clicked, or null if no head was clicked
+     */
+    @Nullable
+    public static UUID handleClick(@NotNull Player viewer, @NotNull RevivalMenuHolder holder, int slot) {
+        if (slot < PAGE_SIZE) {
+            return holder.getPlayerAt(slot);
+        }
+
+        switch (slot) {
+            case PREVIOUS_SLOT -> holder.page--;
+            case NEXT_SLOT -> holder.page++;
+            case SORT_SLOT -> {
+                holder.sort = holder.sort.next();
+                holder.page = 0;
+            }
+            default -> {
+                return null;
+            }
+        }
+        render(viewer, holder);
+        viewer.playSound(viewer.getLocation(), Sound.UI_BUTTON_CLICK, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
+        return null;
+    }
+
+    /**
+     * Renders the holder's current page, clamping it to the roster.
+     * Heads whose profile is not cached yet are drawn as placeholders and patched in
+     * once the profile arrives. The next page is prefetched so turning it is instant.
+     */
+    private static void render(Player viewer, RevivalMenuHolder holder) {
+        EliminationRoster.Snapshot snapshot = EliminationRoster.snapshot();
+        List<EliminationRoster.Entry> roster = holder.sort == Sort.NAME ? snapshot.byName() : snapshot.recent();
+        int pages = Math.max(1, (roster.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        holder.page = Math.max(0, Math.min(holder.page, pages - 1));
+
+        Inventory inventory = holder.getInventory();
+        inventory.clear();
+        int start = holder.page * PAGE_SIZE;
+        for (int slot = 0; slot < PAGE_SIZE; slot++) {
+            int index = start + slot;
+            EliminationRoster.Entry entry = index < roster.size() ? roster.get(index) : null;
+            holder.setPlayerAt(slot, entry != null ? entry.uuid() : null);
+            if (entry != null) {
+                PlayerProfile profile = SkullProfileCache.getCached(entry.uuid());
+                inventory.setItem(slot, createHead(entry, profile));
+                if (profile == null) {
+                    patchWhenLoaded(viewer, holder, slot, entry);
+                }
+            }
+        }
+        for (int index = start + PAGE_SIZE; index < Math.min(roster.size(), start + 2 * PAGE_SIZE); index++) {
+            SkullProfileCache.prefetch(roster.get(index).uuid());
+        }
+
+        if (holder.page > 0) {
+            inventory.setItem(PREVIOUS_SLOT, createControl(Material.ARROW, "Previous page", null));
+        }
+        inventory.setItem(SORT_SLOT, createControl(Material.HOPPER, "Sort: " + holder.sort.label,
+            "Page " + (holder.page + 1) + " of " + pages + " - Click to change"));
+        if (holder.page < pages - 1) {
+            inventory.setItem(NEXT_SLOT, createControl(Material.ARROW, "Next page", null));
+        }
+    }
+
+    /**
+     * Replaces a placeholder head once its profile is fetched, if the viewer
+     * still has the same head in the same slot.
+     */
+    private static void patchWhenLoaded(Player viewer, RevivalMenuHolder holder, int slot, EliminationRoster.Entry entry) {
+        UUID uuid = entry.uuid();
+        SkullProfileCache.fetch(uuid).thenAccept(profile -> {
+            if (profile == null) {
+                return;
+            }
+            viewer.getScheduler().run(plugin, task -> {
+                if (viewer.getOpenInventory().getTopInventory().getHolder(false) == holder && uuid.equals(holder.getPlayerAt(slot))) {
+                    holder.getInventory().setItem(slot, createHead(entry, profile));
+                }
+            }, null);
+        });
+    }
+
+    /**
+     * Creates a head for an eliminated player. Without a profile the head is a
+     * plain placeholder, so building it never triggers a profile lookup.
+     */
+    private static ItemStack createHead(EliminationRoster.Entry entry, @Nullable PlayerProfile profile) {
+        ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
+        SkullMeta skullMeta = (SkullMeta) skull.getItemMeta();
+        if (skullMeta != null) {
+            if (profile != null) {
+                skullMeta.setPlayerProfile(profile);
+            }
+            skullMeta.displayName(Component.text(entry.displayName())
+                .color(NamedTextColor.YELLOW));
+            List<Component> lore = new ArrayList<>(4);
+            lore.add(Component.text(entry.describeCause()).color(NamedTextColor.GRAY));
+            lore.add(Component.text(entry.describeTime()).color(NamedTextColor.GRAY));
+            if (entry.isTemporary()) {
+                lore.add(Component.text("Revived automatically at " + entry.describeExpiry()).color(NamedTextColor.GRAY));
+            }
+            lore.add(Component.text("Click to revive").color(NamedTextColor.GREEN));
+            skullMeta.lore(lore);
+            skull.setItemMeta(skullMeta);
+        }
+        return skull;
+    }
+
+    private static ItemStack createControl(Material material, String name, @Nullable String lore) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.displayName(Component.text(name)
+                .color(NamedTextColor.GOLD));
+            if (lore != null) {
+                meta.lore(List.of(Component.text(lore).color(NamedTextColor.GRAY)));
+            }
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+}
@@ -0,0 +1,51 @@
+package me.honeyberries.lifeSteal.gui;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Identifies a revival GUI inventory and carries its state.
+ * <p>
+ * Click handlers recognise the GUI with a single instanceof check on the inventory's
+ * holder, and map clicked slots to players through {@link #getPlayerAt(int)} instead
+ * of reading anything back off the clicked item.
+ */
+public final class RevivalMenuHolder implements InventoryHolder {
+
+    private final UUID[] slots;
+    private Inventory inventory;
+    RevivalMenu.Sort sort = RevivalMenu.Sort.RECENT;
+    int page;
+
+    RevivalMenuHolder(int pageSize) {
+        this.slots = new UUID[pageSize];
+    }
+
+    void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    void setPlayerAt(int slot, @Nullable UUID uuid) {
+        slots[slot] = uuid;
+    }
+
+    /**
+     * Gets the player whose head is shown in a slot on the current page.
+     *
+     * @param slot The raw slot
+     * @return The UUID of the player, or null if the slot holds no head
+     */
+    @Nullable
+    public UUID getPlayerAt(int slot) {
+        return slot >= 0 && slot < slots.length ? slots[slot] : null;
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+}
@@ -0,0 +1,64 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.manager.CombatTags;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Tags players in combat when they hit each other, and punishes tagged players who log out.
+ */
+public class CombatTagListener implements Listener {
+
+    /**
+     * Tags both players of a hit that went through.
+     *
+     * @param event The EntityDamageByEntityEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerDamage(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Player victim)) {
+            return;
+        }
+        Player attacker = resolveAttacker(event.getDamager());
+        if (attacker != null && !attacker.equals(victim)) {
+            CombatTags.tag(victim, attacker);
+        }
+    }
+
+    /**
+     * Applies the combat log penalty. Runs before the cached permission tiers are dropped.
+     * Kicks by admins or anti-cheat plugins are not the player's choice, so they only end the tag.
+     *
+     * @param event The PlayerQuitEvent
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        if (event.getReason() == PlayerQuitEvent.QuitReason.KICKED) {
+            CombatTags.clear(event.getPlayer().getUniqueId());
+            return;
+        }
+        CombatTags.handleQuit(event.getPlayer());
+    }
+
+    /**
+     * Resolves the player responsible for a hit, including the shooter of a projectile.
+     *
+     * @param damager The entity that dealt the damage.
+     * @return The attacking player, or null if the damage was not dealt by a player.
+     */
+    private Player resolveAttacker(Entity damager) {
+        if (damager instanceof Player player) {
+            return player;
+        }
+        if (damager instanceof Projectile projectile && projectile.getShooter() instanceof Player shooter) {
+            return shooter;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+
+/**
+ * Counts heart items entering and leaving the world outside of commands for the {@link HeartEconomy}.
+ * <p>
+ * Crafted heart items are counted by the {@link ItemSerialListener} when they are stamped,
+ * which is also where the ingredients of shift-click crafts are counted.
+ */
+public class HeartEconomyListener implements Listener {
+
+    /**
+     * Counts heart items used up as ingredients of a single heart or revival craft.
+     *
+     * @param event The CraftItemEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCraft(CraftItemEvent event) {
+        if (event.isShiftClick() || !ItemSerialListener.isSerialedRecipe(event.getRecipe())) {
+            return;
+        }
+        recordConsumed(heartIngredients(event.getInventory().getMatrix()), 1);
+    }
+
+    /**
+     * Counts heart items destroyed on the ground, for example by lava, fire, cacti, explosions or the void.
+     * Despawns are counted by {@link #onDespawn(ItemDespawnEvent)}, other removals keep the item.
+     *
+     * @param event The EntityRemoveEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRemove(EntityRemoveEvent event) {
+        if (!(event.getEntity() instanceof Item entity)
+            || (event.getCause() != EntityRemoveEvent.Cause.DEATH && event.getCause() != EntityRemoveEvent.Cause.OUT_OF_WORLD)) {
+            return;
+        }
+        ItemStack item = entity.getItemStack();
+        if (LifeStealUtil.isHeartItem(item)) {
+            double healthPerItem = LifeStealUtil.getHeartItemHealth(item);
+            HeartEconomy.itemsRemoved(item.getAmount(), healthPerItem);
+            HeartEconomy.record(HeartEconomy.Flow.DESTROYED, item.getAmount() * healthPerItem);
+        }
+    }
+
+    /**
+     * Counts heart items that despawn on the ground.
+     *
+     * @param event The ItemDespawnEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDespawn(ItemDespawnEvent event) {
+        ItemStack item = event.getEntity().getItemStack();
+        if (LifeStealUtil.isHeartItem(item)) {
+            double healthPerItem = LifeStealUtil.getHeartItemHealth(item);
+            HeartEconomy.itemsRemoved(item.getAmount(), healthPerItem);
+            HeartEconomy.record(HeartEconomy.Flow.DESPAWNED, item.getAmount() * healthPerItem);
+        }
+    }
+
+    /**
+     * Reads the heart items in a crafting grid, each of which is used up once per craft.
+     *
+     * @param matrix The crafting grid
+     * @return The health of every heart item in the grid
+     */
+    static double[] heartIngredients(ItemStack[] matrix) {
+        return Arrays.stream(matrix)
+            .filter(LifeStealUtil::isHeartItem)
+            .mapToDouble(LifeStealUtil::getHeartItemHealth)
+            .toArray();
+    }
+
+    /**
+     * Counts heart ingredients used up by crafting.
+     *
+     * @param ingredients The health of every heart item in the grid, see {@link #heartIngredients(ItemStack[])}
+     * @param crafts      The number of crafts made
+     */
+    static void recordConsumed(double[] ingredients, int crafts) {
+        if (crafts <= 0) {
+            return;
+        }
+        for (double healthPerItem : ingredients) {
+            HeartEconomy.itemsRemoved(crafts, healthPerItem);
+            HeartEconomy.record(HeartEconomy.Flow.CONSUMED, crafts * healthPerItem);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Upgrades heart items built from an older configuration when players touch them.
+ * <p>
+ * Only the inventories a player opens and the items they pick up are checked, see
+ * {@link LifeStealUtil#upgradeHeartItem(ItemStack)}. Used items are upgraded by the
+ * {@link HeartUsageListener}.
+ */
+public class HeartItemUpgradeListener implements Listener {
+
+    /**
+     * Upgrades the heart items in an opened inventory and in the viewer's own inventory.
+     *
+     * @param event The InventoryOpenEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        upgradeContents(event.getInventory());
+        upgradeContents(event.getPlayer().getInventory());
+    }
+
+    /**
+     * Upgrades a heart item as a player picks it up.
+     *
+     * @param event The EntityPickupItemEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player)) {
+            return;
+        }
+        Item entity = event.getItem();
+        ItemStack upgraded = LifeStealUtil.upgradeHeartItem(entity.getItemStack());
+        if (upgraded != null) {
+            entity.setItemStack(upgraded);
+        }
+    }
+
+    private static void upgradeContents(Inventory inventory) {
+        ItemStack[] contents = inventory.getContents();
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack upgraded = LifeStealUtil.upgradeHeartItem(contents[slot]);
+            if (upgraded != null) {
+                inventory.setItem(slot, upgraded);
+            }
+        }
+    }
+}
@@ -3,6 +3,10 @@ package me.honeyberries.lifeSteal.listener;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.HeartTimers;
+import me.honeyberries.lifeSteal.manager.PermissionTierCache;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -20,6 +24,9 @@ import org.jetbrains.annotations.NotNull;
  * This listener detects when players right-click with a Heart item in their hand
  * and applies the health gain according to the plugin's settings. It ensures the
  * item is consumed properly and respects the maximum health limits.
+ * <p>
+ * Sneaking while right-clicking uses as many items of the stack as fit under the
+ * maximum health limit at once.
  */
 public class HeartUsageListener implements Listener {
 
@@ -28,10 +35,11 @@ public class HeartUsageListener implements Listener {
      * <p>
      * This method:
      * 1. Verifies the item is a Heart item
-     * 2. Checks if the player can gain more health
-     * 3. Applies the health gain
-     * 4. Consumes the item
-     * 5. Provides feedback to the player
+     * 2. Works out how many items to use, the whole stack when sneaking
+     * 3. Checks how many of them fit under the maximum health limit
+     * 4. Applies the health gain
+     * 5. Consumes the items
+     * 6. Provides feedback to the player
      *
      * @param event The PlayerInteractEvent triggered when a player interacts with an item
      */
@@ -55,8 +63,14 @@ public class HeartUsageListener implements Listener {
         // Cancel the original event to prevent normal item usage
         event.setCancelled(true);
 
-        // Get the health amount to add from configuration
-        double healthToAdd = LifeStealSettings.getHealthPerItem();
+        // Bring an item from an older configuration up to date in the hand, then read what it gives
+        EquipmentSlot hand = event.getHand();
+        ItemStack upgraded = LifeStealUtil.upgradeHeartItem(item);
+        if (upgraded != null) {
+            item = upgraded;
+            player.getInventory().setItem(hand, item);
+        }
+        double healthToAdd = LifeStealUtil.getHeartItemHealth(item);
 
         final boolean isAllowWithdraw = LifeStealSettings.isAllowWithdraw();
 
@@ -66,9 +80,19 @@ public class HeartUsageListener implements Listener {
             return;
         }
 
+        // Check if the player is still on cooldown from their last heart item
+        long cooldown = HeartTimers.getCooldownSeconds(player.getUniqueId());
+        if (cooldown > 0) {
+            player.sendMessage(Messages.heartCooldown(String.valueOf(cooldown)));
+            return;
+        }
+
+        // Sneaking uses the whole stack, otherwise a single item
+        int itemsToUse = player.isSneaking() ? item.getAmount() : 1;
+
         // Check if the player has reached the maximum health limit
-        if (LifeStealSettings.isMaxHealthLimitEnabled()) {
-            double maxHealth = LifeStealSettings.getMaxHealthLimit();
+        if (PermissionTierCache.isMaxHealthLimitEnabled(player)) {
+            double maxHealth = PermissionTierCache.getMaxHealthLimit(player);
             double currentHealth = LifeStealUtil.getMaxHealth(player);
 
             if (currentHealth >= maxHealth) {
@@ -79,8 +103,14 @@ public class HeartUsageListener implements Listener {
                 return;
             }
 
-            // If adding exceeds the max, adjust the amount to add
-            if (currentHealth + healthToAdd > maxHealth) {
+            // Work out how many items fit under the max in one step, instead of trying them one by one
+            if (healthToAdd > 0) {
+                int fitting = (int) Math.floor((maxHealth - currentHealth + LifeStealConstants.MIN_HEALTH_EPSILON) / healthToAdd);
+                itemsToUse = Math.min(itemsToUse, fitting);
+            }
+
+            // If even one item exceeds the max, refuse it
+            if (itemsToUse <= 0) {
                 double hearts = maxHealth / LifeStealConstants.HEALTH_POINTS_PER_HEART;
                 String heartsWord = hearts == 1.0 ? "heart" : "hearts";
                 player.sendMessage(Messages.maxHealthLimitExceeded(LifeStealUtil.formatHealth(hearts), heartsWord));
@@ -89,28 +119,38 @@ public class HeartUsageListener implements Listener {
             }
         }
 
-        // Apply the health increase
-        LifeStealUtil.adjustMaxHealth(player, healthToAdd);
+        // Retire the used items of the stack's serial, refusing duplicated stacks
+        if (!SerialRegistry.redeem(player, item, itemsToUse)) {
+            player.sendMessage(Messages.itemSerialReused());
+            player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
+            return;
+        }
+
+        // Apply the health increase of every item with a single attribute write
+        double totalHealth = healthToAdd * itemsToUse;
+        LifeStealUtil.adjustMaxHealth(player, totalHealth);
+        HeartEconomy.itemsRemoved(itemsToUse, healthToAdd);
+        HeartTimers.startCooldown(player.getUniqueId());
 
         // Provide feedback to the player
-        double hearts = healthToAdd / LifeStealConstants.HEALTH_POINTS_PER_HEART;
+        double hearts = totalHealth / LifeStealConstants.HEALTH_POINTS_PER_HEART;
         String heartsWord = hearts == 1.0 ? "heart" : "hearts";
-        player.sendMessage(Messages.heartUsed(LifeStealUtil.formatHealth(hearts), heartsWord));
+        if (itemsToUse > 1) {
+            player.sendMessage(Messages.heartsUsedBulk(String.valueOf(itemsToUse), LifeStealUtil.formatHealth(hearts), heartsWord));
+        } else {
+            player.sendMessage(Messages.heartUsed(LifeStealUtil.formatHealth(hearts), heartsWord));
+        }
 
         // Play a sound effect for feedback
         player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
 
-        // Consume one heart item
-        if (item.getAmount() > 1) {
-            item.setAmount(item.getAmount() - 1);
+        // Consume the used heart items, writing the stack back since an upgraded one is a copy
+        if (item.getAmount() > itemsToUse) {
+            item.setAmount(item.getAmount() - itemsToUse);
+            player.getInventory().setItem(hand, item);
         } else {
-            // If it's the last item, remove it completely
-
-            if (event.getHand() == EquipmentSlot.HAND) {
-                player.getInventory().setItemInMainHand(null);
-            } else {
-                player.getInventory().setItemInOffHand(null);
-            }
+            // If the whole stack was used, remove it completely
+            player.getInventory().setItem(hand, null);
         }
     }
 }
@@ -0,0 +1,161 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
+import me.honeyberries.lifeSteal.recipe.RevivalRecipe;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import org.bukkit.Keyed;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.CrafterCraftEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.Recipe;
+
+/**
+ * Stamps crafted heart items of every tier and revival items with a serial from the {@link SerialRegistry}.
+ * <p>
+ * Recipes share one result item, so the serial is added when the result is taken.
+ * Shift-click crafting builds every item after the first from the recipe again and puts
+ * them straight into the inventory, so the crafter's inventory is stamped on the next tick.
+ * Results that escape that scan, for example by being dropped in the same tick, are stamped
+ * when picked up, when their inventory is opened or when their owner joins. Results still
+ * unstamped when used are refused by {@link SerialRegistry#redeem}.
+ * <p>
+ * Every result is stamped exactly once, so crafted heart items are counted for the
+ * {@link HeartEconomy} here. Shift-click crafts are limited by free inventory space as well
+ * as by the ingredients, so the scan is also where their used up ingredients are counted.
+ */
+public class ItemSerialListener implements Listener {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+    /**
+     * Replaces the result of a heart or revival craft with a serialed copy, or stamps
+     * the crafter's inventory once a shift-click craft has filled it.
+     *
+     * @param event The CraftItemEvent
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onCraft(CraftItemEvent event) {
+        if (!isSerialedRecipe(event.getRecipe())) {
+            return;
+        }
+        if (event.isShiftClick()) {
+            if (event.getWhoClicked() instanceof Player player) {
+                double[] ingredients = HeartEconomyListener.heartIngredients(event.getInventory().getMatrix());
+                int perCraft = Math.max(1, event.getRecipe().getResult().getAmount());
+                player.getScheduler().run(plugin, task -> {
+                    int crafted = stampContents(player.getInventory());
+                    HeartEconomyListener.recordConsumed(ingredients, crafted / perCraft);
+                }, null);
+            }
+            return;
+        }
+        ItemStack result = event.getCurrentItem();
+        if (result != null && !result.isEmpty()) {
+            event.setCurrentItem(stampCrafted(result.clone()));
+        }
+    }
+
+    /**
+     * Stamps the result of a heart or revival craft made by a crafter block.
+     *
+     * @param event The CrafterCraftEvent
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onCrafterCraft(CrafterCraftEvent event) {
+        if (isSerialedRecipe(event.getRecipe()) && !event.getResult().isEmpty()) {
+            event.setResult(stampCrafted(event.getResult().clone()));
+        }
+    }
+
+    /**
+     * Stamps an unstamped result as a player picks it up.
+     *
+     * @param event The EntityPickupItemEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player)) {
+            return;
+        }
+        Item entity = event.getItem();
+        ItemStack stack = entity.getItemStack();
+        if (SerialRegistry.isUnstamped(stack)) {
+            entity.setItemStack(stampCrafted(stack));
+        }
+    }
+
+    /**
+     * Stamps the unstamped results in an opened inventory and in the viewer's own inventory.
+     *
+     * @param event The InventoryOpenEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        stampContents(event.getInventory());
+        stampContents(event.getPlayer().getInventory());
+    }
+
+    /**
+     * Stamps the unstamped results of a player who quit before their shift-click craft was stamped.
+     *
+     * @param event The PlayerJoinEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        stampContents(event.getPlayer().getInventory());
+    }
+
+    /**
+     * @param recipe The recipe to check (can be null)
+     * @return true if the recipe makes heart items of any tier or revival items
+     */
+    static boolean isSerialedRecipe(Recipe recipe) {
+        return recipe instanceof Keyed keyed
+            && (LifeStealUtil.isHeartItem(recipe.getResult()) || keyed.getKey().equals(RevivalRecipe.recipeKey));
+    }
+
+    /**
+     * Stamps the unstamped results in an inventory.
+     *
+     * @param inventory The inventory to scan
+     * @return The number of items stamped
+     */
+    private static int stampContents(Inventory inventory) {
+        ItemStack[] contents = inventory.getContents();
+        int stamped = 0;
+        for (int slot = 0; slot < contents.length; slot++) {
+            if (SerialRegistry.isUnstamped(contents[slot])) {
+                stamped += contents[slot].getAmount();
+                inventory.setItem(slot, stampCrafted(contents[slot]));
+            }
+        }
+        return stamped;
+    }
+
+    /**
+     * Stamps a crafted result and counts it if it is made of heart items.
+     *
+     * @param item The unstamped result
+     * @return The same item, for chaining
+     */
+    private static ItemStack stampCrafted(ItemStack item) {
+        SerialRegistry.stamp(item);
+        if (LifeStealUtil.isHeartItem(item)) {
+            double healthPerItem = LifeStealUtil.getHeartItemHealth(item);
+            HeartEconomy.itemsCreated(item.getAmount(), healthPerItem);
+            HeartEconomy.record(HeartEconomy.Flow.CRAFTED, item.getAmount() * healthPerItem);
+        }
+        return item;
+    }
+}
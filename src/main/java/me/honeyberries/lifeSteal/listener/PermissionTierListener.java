@@ -0,0 +1,62 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.manager.PermissionTierCache;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps the {@link PermissionTierCache} in sync with player permissions.
+ * <p>
+ * Bukkit has no dedicated permission-recalculation event, so the command tree
+ * resend ({@link PlayerCommandSendEvent}) stands in for one. Permission plugins
+ * such as LuckPerms trigger it whenever a player's permissions change; anything
+ * that changes permissions without a resend is caught on the next join or world
+ * change, or by {@code /lifesteal reload}, which refreshes every online player.
+ */
+public class PermissionTierListener implements Listener {
+
+    /**
+     * Resolves the player's tiers before any other LifeSteal join handling runs.
+     *
+     * @param event The PlayerJoinEvent
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        PermissionTierCache.refresh(event.getPlayer());
+    }
+
+    /**
+     * Re-resolves tiers when the server resends the command tree after a permission change.
+     *
+     * @param event The PlayerCommandSendEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCommandSend(PlayerCommandSendEvent event) {
+        PermissionTierCache.refresh(event.getPlayer());
+    }
+
+    /**
+     * Re-resolves tiers on world change, since permissions may be granted per world.
+     *
+     * @param event The PlayerChangedWorldEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        PermissionTierCache.refresh(event.getPlayer());
+    }
+
+    /**
+     * Drops the cached tiers of players who leave, keeping their limits for offline changes.
+     *
+     * @param event The PlayerQuitEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        PermissionTierCache.invalidate(event.getPlayer());
+    }
+}
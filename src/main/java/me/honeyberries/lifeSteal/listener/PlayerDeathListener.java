@@ -4,7 +4,12 @@ import me.honeyberries.lifeSteal.LifeSteal;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.manager.CombatTags;
 import me.honeyberries.lifeSteal.manager.EliminationManager;
+import me.honeyberries.lifeSteal.manager.EliminationRoster;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.HeartTimers;
+import me.honeyberries.lifeSteal.manager.PermissionTierCache;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import org.bukkit.GameRule;
 import org.bukkit.World;
@@ -13,6 +18,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.jetbrains.annotations.NotNull;
 import java.util.logging.Logger;
@@ -37,8 +43,11 @@ public class PlayerDeathListener implements Listener {
     public void onPlayerDeath(@NotNull PlayerDeathEvent event) {
         Player victim = event.getPlayer();
 
-        // Check if the plugin ignores the victim
-        if (victim.hasPermission("lifesteal.debug.bypass")) {
+        // A death ends the fight, so the victim can log out freely afterwards
+        CombatTags.clear(victim.getUniqueId());
+
+        // Check if the plugin ignores the victim (resolved from the cached permission tiers)
+        if (PermissionTierCache.isBypassed(victim)) {
             return;
         }
 
@@ -47,6 +56,12 @@ public class PlayerDeathListener implements Listener {
             return;
         }
 
+        // New players under protection lose nothing, and their killers gain nothing
+        if (HeartTimers.isProtected(victim.getUniqueId())) {
+            victim.sendMessage(Messages.protectedDeath());
+            return;
+        }
+
         // Resolve the killer entity (if any) and handle the death cause
         Player killer = resolveKiller(event.getEntity().getKiller());
         handleDeathCause(victim, killer);
@@ -83,6 +98,17 @@ public class PlayerDeathListener implements Listener {
         return null;
     }
 
+    /**
+     * Resolves the damage cause of a natural death for the elimination roster.
+     *
+     * @param victim The player who died.
+     * @return The name of the last damage cause, or UNKNOWN if there is none.
+     */
+    private String resolveCause(Player victim) {
+        EntityDamageEvent lastDamage = victim.getLastDamageCause();
+        return lastDamage != null ? lastDamage.getCause().name() : EliminationRoster.UNKNOWN_CAUSE;
+    }
+
     /**
      * Handles the death cause and adjusts health based on whether the killer is a player or natural cause.
      *
@@ -110,6 +136,7 @@ public class PlayerDeathListener implements Listener {
 
         if (healthLost > 0) {
             LifeStealUtil.adjustMaxHealth(victim, -healthLost);
+            HeartEconomy.record(HeartEconomy.Flow.NATURAL_LOST, healthLost);
             double heartsLost = healthLost / LifeStealConstants.HEALTH_POINTS_PER_HEART;
             String heartsWord = formatHearts(heartsLost);
             victim.sendMessage(Messages.naturalDeathLoss(LifeStealUtil.formatHealth(heartsLost), heartsWord));
@@ -119,7 +146,7 @@ public class PlayerDeathListener implements Listener {
             
             // Check if player should be eliminated
             if (EliminationManager.shouldBeEliminated(victim)) {
-                EliminationManager.eliminatePlayer(victim);
+                EliminationManager.eliminatePlayer(victim, resolveCause(victim), null);
             }
         }
     }
@@ -138,6 +165,7 @@ public class PlayerDeathListener implements Listener {
 
         if (healthLost > 0) {
             LifeStealUtil.adjustMaxHealth(victim, -healthLost);
+            HeartEconomy.record(HeartEconomy.Flow.KILL_LOST, healthLost);
             double heartsLost = healthLost / LifeStealConstants.HEALTH_POINTS_PER_HEART;
             String heartsWord = formatHearts(heartsLost);
             victim.sendMessage(Messages.playerDeathLoss(LifeStealUtil.formatHealth(heartsLost), heartsWord, killer.getName()));
@@ -147,12 +175,14 @@ public class PlayerDeathListener implements Listener {
             
             // Check if player should be eliminated
             if (EliminationManager.shouldBeEliminated(victim)) {
-                EliminationManager.eliminatePlayer(victim);
+                EliminationManager.eliminatePlayer(victim, EliminationRoster.PLAYER_KILL_CAUSE, killer);
             }
         }
 
         if (healthGained > 0) {
             LifeStealUtil.adjustMaxHealth(killer, healthGained);
+            HeartEconomy.record(HeartEconomy.Flow.KILL_GAINED, healthGained);
+            HeartTimers.scheduleDecay(killer.getUniqueId(), healthGained);
             double heartsGained = healthGained / LifeStealConstants.HEALTH_POINTS_PER_HEART;
             String heartsWord = formatHearts(heartsGained);
             killer.sendMessage(Messages.playerKillGain(LifeStealUtil.formatHealth(heartsGained), heartsWord, victim.getName()));
@@ -170,8 +200,8 @@ public class PlayerDeathListener implements Listener {
         double currentHealth = LifeStealUtil.getMaxHealth(victim);
         
         // If elimination is disabled, enforce minimum health limit strictly
-        if (!LifeStealSettings.isEliminationEnabled() && LifeStealSettings.isMinHealthLimitEnabled()) {
-            double minHealth = LifeStealSettings.getMinHealthLimit();
+        if (!LifeStealSettings.isEliminationEnabled() && PermissionTierCache.isMinHealthLimitEnabled(victim)) {
+            double minHealth = PermissionTierCache.getMinHealthLimit(victim);
             if (currentHealth <= minHealth) {
                 return 0; // Already at or below the minimum
             }
@@ -195,8 +225,8 @@ public class PlayerDeathListener implements Listener {
         }
 
         double currentHealth = LifeStealUtil.getMaxHealth(killer);
-        if (LifeStealSettings.isMaxHealthLimitEnabled()) {
-            double maxHealth = LifeStealSettings.getMaxHealthLimit();
+        if (PermissionTierCache.isMaxHealthLimitEnabled(killer)) {
+            double maxHealth = PermissionTierCache.getMaxHealthLimit(killer);
             if (currentHealth >= maxHealth) {
                 return 0; // Already at or above the maximum
             }
@@ -3,7 +3,16 @@ package me.honeyberries.lifeSteal.listener;
 import me.honeyberries.lifeSteal.LifeSteal;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.manager.EliminatedPlayersData;
 import me.honeyberries.lifeSteal.manager.EliminationManager;
+import me.honeyberries.lifeSteal.manager.HeartLedger;
+import me.honeyberries.lifeSteal.manager.HeartTimers;
+import me.honeyberries.lifeSteal.manager.LimboWorld;
+import me.honeyberries.lifeSteal.manager.PlayerNameIndex;
+import me.honeyberries.lifeSteal.manager.PlayerSuggestions;
+import me.honeyberries.lifeSteal.manager.SpectatorDistances;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import org.bukkit.GameMode;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -12,7 +21,8 @@ import org.bukkit.event.player.PlayerJoinEvent;
 
 /**
  * Handles player join events for the elimination system.
- * Kicks eliminated players in BAN mode.
+ * Kicks eliminated players in BAN mode, keeps eliminated spectators in limbo
+ * and keeps the name index up to date.
  */
 public class PlayerJoinListener implements Listener {
     
@@ -26,12 +36,40 @@ public class PlayerJoinListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+
+        // Keep the name index current so offline lookups never need a profile lookup
+        PlayerNameIndex.record(player.getUniqueId(), player.getName());
+        PlayerSuggestions.addOnline(player.getName());
+
+        // Apply max health changes made while the player was offline
+        HeartLedger.applyOnJoin(player);
+
+        // Protect new players from losing hearts for a while
+        if (!player.hasPlayedBefore() && HeartTimers.startProtection(player.getUniqueId())) {
+            player.sendMessage(Messages.protectionStarted(LifeStealUtil.formatHealth(LifeStealSettings.getNewbieProtectionHours())));
+        }
         
         // Check if player is eliminated
         if (!EliminationManager.isEliminated(player)) {
+            // Players revived while offline get their distances back and leave limbo on their next join
+            player.getScheduler().run(plugin, task -> {
+                boolean restored = SpectatorDistances.restore(player);
+                boolean released = LimboWorld.release(player);
+                // Either marker means they were eliminated as spectators, so they play again too
+                if ((restored || released) && player.getGameMode() == GameMode.SPECTATOR) {
+                    player.setGameMode(GameMode.SURVIVAL);
+                }
+            }, null);
             return;
         }
         
+        // Keep the roster and revive suggestions on the eliminated player's current name
+        String oldName = EliminatedPlayersData.updateName(player.getUniqueId(), player.getName());
+        if (oldName != null) {
+            PlayerSuggestions.removeEliminated(oldName);
+            PlayerSuggestions.addEliminated(player.getName());
+        }
+        
         // Only kick if elimination is enabled and mode is BAN
         if (!LifeStealSettings.isEliminationEnabled()) {
             return;
@@ -39,7 +77,18 @@ public class PlayerJoinListener implements Listener {
         
         String mode = LifeStealSettings.getEliminationMode();
         
-        if ("BAN".equalsIgnoreCase(mode)) {
+        if ("SPECTATOR".equalsIgnoreCase(mode)) {
+            // Per-player distances reset on reconnect, and players eliminated before limbo was enabled are moved there now
+            player.getScheduler().run(plugin, task -> {
+                // Players eliminated while logging out, such as combat loggers, become spectators now
+                if (player.getGameMode() != GameMode.SPECTATOR) {
+                    player.setGameMode(GameMode.SPECTATOR);
+                    player.sendMessage(Messages.eliminatedSpectator());
+                }
+                SpectatorDistances.apply(player);
+                LimboWorld.send(player);
+            }, null);
+        } else if ("BAN".equalsIgnoreCase(mode)) {
             // Kick the player using Folia scheduler
             player.getScheduler().run(plugin, task -> {
                 player.kick(Messages.eliminatedBanKick());
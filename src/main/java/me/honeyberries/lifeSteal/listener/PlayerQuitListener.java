@@ -0,0 +1,24 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.manager.PlayerSuggestions;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Handles player quit events.
+ * Removes leaving players from the online name suggestions.
+ */
+public class PlayerQuitListener implements Listener {
+
+    /**
+     * Cleans up per-player state when a player leaves.
+     *
+     * @param event The PlayerQuitEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        PlayerSuggestions.removeOnline(event.getPlayer().getName());
+    }
+}
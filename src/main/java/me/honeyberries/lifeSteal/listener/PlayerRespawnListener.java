@@ -0,0 +1,32 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.manager.EliminationManager;
+import me.honeyberries.lifeSteal.manager.LimboWorld;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerRespawnEvent;
+
+/**
+ * Handles player respawn events.
+ * Players eliminated by a death respawn straight into the limbo world, if it is enabled.
+ */
+public class PlayerRespawnListener implements Listener {
+
+    /**
+     * Sends eliminated players to limbo instead of their normal respawn point.
+     *
+     * @param event The PlayerRespawnEvent
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        if (!EliminationManager.isEliminated(event.getPlayer())) {
+            return;
+        }
+        Location spawn = LimboWorld.getSpawn();
+        if (spawn != null) {
+            event.setRespawnLocation(spawn);
+        }
+    }
+}
@@ -4,12 +4,14 @@ import me.honeyberries.lifeSteal.LifeSteal;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.gui.RevivalMenu;
+import me.honeyberries.lifeSteal.gui.RevivalMenuHolder;
 import me.honeyberries.lifeSteal.manager.EliminationManager;
+import me.honeyberries.lifeSteal.manager.EliminationRoster;
+import me.honeyberries.lifeSteal.manager.PlayerNameIndex;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -18,11 +20,10 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.SkullMeta;
 
-import java.util.List;
+import java.util.UUID;
 
 /**
  * Handles revival item usage and the revival GUI.
@@ -59,10 +60,7 @@ public class RevivalItemListener implements Listener {
             return;
         }
         
-        // Get list of eliminated players
-        List<OfflinePlayer> eliminatedPlayers = EliminationManager.getEliminatedPlayers();
-        
-        if (eliminatedPlayers.isEmpty()) {
+        if (EliminationRoster.snapshot().isEmpty()) {
             player.sendMessage(Messages.noEliminatedPlayers());
             player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1.0F, 1.0F);
             return;
@@ -70,93 +68,60 @@ public class RevivalItemListener implements Listener {
         
         // Open GUI with eliminated players using Folia scheduler
         player.getScheduler().run(plugin, task -> {
-            openRevivalGUI(player, eliminatedPlayers, item);
+            RevivalMenu.open(player);
+            player.playSound(player.getLocation(), Sound.BLOCK_CHEST_OPEN, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
         }, null);
     }
     
-    /**
-     * Opens the revival GUI showing eliminated players.
-     */
-    private void openRevivalGUI(Player player, List<OfflinePlayer> eliminatedPlayers, ItemStack revivalItem) {
-        // Create inventory with size based on number of eliminated players (round up to nearest 9)
-        int size = Math.min(54, ((eliminatedPlayers.size() + 8) / 9) * 9);
-        Inventory gui = Bukkit.createInventory(null, size, Component.text(LifeStealConstants.REVIVAL_GUI_TITLE));
-        
-        // Add player heads for each eliminated player
-        for (int i = 0; i < eliminatedPlayers.size() && i < size; i++) {
-            OfflinePlayer eliminated = eliminatedPlayers.get(i);
-            ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
-            SkullMeta skullMeta = (SkullMeta) skull.getItemMeta();
-            
-            if (skullMeta != null) {
-                skullMeta.setOwningPlayer(eliminated);
-                skullMeta.displayName(Component.text(eliminated.getName() != null ? eliminated.getName() : "Unknown")
-                    .color(NamedTextColor.YELLOW));
-                skullMeta.lore(List.of(
-                    Component.text("Click to revive").color(NamedTextColor.GREEN)
-                ));
-                skull.setItemMeta(skullMeta);
-            }
-            
-            gui.setItem(i, skull);
-        }
-        
-        player.openInventory(gui);
-        player.playSound(player.getLocation(), Sound.BLOCK_CHEST_OPEN, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
-    }
-    
     /**
      * Handles clicking on a player head in the revival GUI.
      */
     @EventHandler
     public void onRevivalGUIClick(InventoryClickEvent event) {
         // Check if this is the revival GUI
-        if (!(event.getWhoClicked() instanceof Player player)) {
-            return;
-        }
-        
-        if (!event.getView().title().equals(Component.text(LifeStealConstants.REVIVAL_GUI_TITLE))) {
+        if (!(event.getInventory().getHolder(false) instanceof RevivalMenuHolder holder)
+            || !(event.getWhoClicked() instanceof Player player)) {
             return;
         }
         
         // Cancel the event to prevent item movement
         event.setCancelled(true);
         
-        ItemStack clickedItem = event.getCurrentItem();
-        if (clickedItem == null || clickedItem.getType() != Material.PLAYER_HEAD) {
+        // Page and sort controls are handled by the menu itself
+        UUID uuid = RevivalMenu.handleClick(player, holder, event.getRawSlot());
+        if (uuid == null) {
             return;
         }
         
-        // Get the player to revive from the skull meta
-        SkullMeta skullMeta = (SkullMeta) clickedItem.getItemMeta();
-        if (skullMeta == null || skullMeta.getOwningPlayer() == null) {
-            return;
-        }
-        
-        OfflinePlayer toRevive = skullMeta.getOwningPlayer();
+        OfflinePlayer toRevive = Bukkit.getOfflinePlayer(uuid);
         
         // Close the inventory
         player.closeInventory();
         
-        // Attempt to revive the player using Folia scheduler
+        // Attempt to revive the player using Folia scheduler. The reviver's inventory only changes
+        // on this thread, so the item found here is still there when the revive has been won.
         player.getScheduler().run(plugin, task -> {
+            EquipmentSlot hand = findRevivalItemHand(player);
+            if (hand == null) {
+                player.sendMessage(Messages.revivalItemRequired());
+                player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
+                return;
+            }
+            
+            // Retire the item's serial first, so duplicated revival items cannot revive anyone
+            ItemStack revivalItem = player.getInventory().getItem(hand);
+            if (!SerialRegistry.redeem(player, revivalItem, 1)) {
+                player.sendMessage(Messages.itemSerialReused());
+                player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
+                return;
+            }
+            
             if (EliminationManager.revivePlayer(toRevive)) {
-                // Consume the revival item
-                ItemStack mainHand = player.getInventory().getItemInMainHand();
-                ItemStack offHand = player.getInventory().getItemInOffHand();
-                
-                if (LifeStealUtil.isRevivalItem(mainHand)) {
-                    if (mainHand.getAmount() > 1) {
-                        mainHand.setAmount(mainHand.getAmount() - 1);
-                    } else {
-                        player.getInventory().setItemInMainHand(null);
-                    }
-                } else if (LifeStealUtil.isRevivalItem(offHand)) {
-                    if (offHand.getAmount() > 1) {
-                        offHand.setAmount(offHand.getAmount() - 1);
-                    } else {
-                        player.getInventory().setItemInOffHand(null);
-                    }
+                // Only the winner of the revive consumes a revival item
+                if (revivalItem.getAmount() > 1) {
+                    revivalItem.setAmount(revivalItem.getAmount() - 1);
+                } else {
+                    player.getInventory().setItem(hand, null);
                 }
                 
                 // Send success message
@@ -180,9 +145,28 @@ public class RevivalItemListener implements Listener {
                 
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
             } else {
-                player.sendMessage(Component.text("Failed to revive player.").color(NamedTextColor.RED));
+                // Someone else revived the player first, so the item was not used
+                SerialRegistry.refund(revivalItem, 1);
+                String name = PlayerNameIndex.getName(uuid);
+                player.sendMessage(Messages.alreadyRevived(name != null ? name : "That player"));
                 player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, LifeStealConstants.SOUND_VOLUME, LifeStealConstants.SOUND_PITCH);
             }
         }, null);
     }
+    
+    /**
+     * Finds the hand holding a revival item, preferring the main hand.
+     *
+     * @param player The player to check
+     * @return The hand holding a revival item, or null if neither does
+     */
+    private EquipmentSlot findRevivalItemHand(Player player) {
+        if (LifeStealUtil.isRevivalItem(player.getInventory().getItemInMainHand())) {
+            return EquipmentSlot.HAND;
+        }
+        if (LifeStealUtil.isRevivalItem(player.getInventory().getItemInOffHand())) {
+            return EquipmentSlot.OFF_HAND;
+        }
+        return null;
+    }
 }
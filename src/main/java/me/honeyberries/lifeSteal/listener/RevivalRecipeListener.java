@@ -0,0 +1,155 @@
+package me.honeyberries.lifeSteal.listener;
+
+import me.honeyberries.lifeSteal.recipe.RevivalRecipe;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import org.bukkit.Keyed;
+import org.bukkit.Material;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.PrepareItemCraftEvent;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.Recipe;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Only lets the revival recipe be crafted from real heart items.
+ * <p>
+ * The recipe is registered with plain materials, so a vanilla item of a heart item's type
+ * would fit too. Every grid item of a heart item's type must pass
+ * {@link LifeStealUtil#getHeartTier(ItemStack)}, otherwise the result is removed. Other
+ * items are skipped by their material alone.
+ * <p>
+ * The last evaluation of each crafting view is cached with the types in its grid. A
+ * shift-click crafts repeatedly without any click in between, so once such a craft
+ * starts, later evaluations reuse the result while the grid only shrinks. Any other
+ * click or drag in the view can swap items, so it makes the next evaluation start over.
+ */
+public class RevivalRecipeListener implements Listener {
+
+    /**
+     * The outcome of checking a grid.
+     *
+     * @param types   The item type in every grid slot, null for empty slots.
+     * @param valid   Whether every heart-typed item was a real heart item.
+     * @param trusted Whether the grid can only have shrunk since, so the outcome may be reused.
+     */
+    private record Evaluation(Material[] types, boolean valid, boolean trusted) {
+
+        /**
+         * Compares the grid slot by slot, so the trusted path allocates nothing.
+         */
+        private boolean matches(ItemStack[] matrix) {
+            if (matrix.length != types.length) {
+                return false;
+            }
+            for (int slot = 0; slot < matrix.length; slot++) {
+                if (types[slot] != typeOf(matrix[slot])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final Map<InventoryView, Evaluation> EVALUATIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Removes the result of a revival craft whose heart slots hold anything but real heart items.
+     *
+     * @param event The PrepareItemCraftEvent
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPrepareCraft(PrepareItemCraftEvent event) {
+        InventoryView view = event.getView();
+        if (!isRevivalRecipe(event.getRecipe())) {
+            EVALUATIONS.remove(view);
+            return;
+        }
+
+        ItemStack[] matrix = event.getInventory().getMatrix();
+        Evaluation cached = EVALUATIONS.get(view);
+        boolean valid;
+        if (cached != null && cached.trusted() && cached.matches(matrix)) {
+            valid = cached.valid();
+        } else {
+            valid = hasOnlyRealHearts(matrix);
+            EVALUATIONS.put(view, new Evaluation(typesOf(matrix), valid, false));
+        }
+
+        if (!valid) {
+            event.getInventory().setResult(null);
+        }
+    }
+
+    /**
+     * Trusts the grid evaluation for the crafts a shift-click performs.
+     *
+     * @param event The CraftItemEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCraft(CraftItemEvent event) {
+        if (!event.isShiftClick() || !isRevivalRecipe(event.getRecipe())) {
+            return;
+        }
+        EVALUATIONS.computeIfPresent(event.getView(), (view, evaluation) ->
+            evaluation.matches(event.getInventory().getMatrix()) ? new Evaluation(evaluation.types(), evaluation.valid(), true) : null);
+    }
+
+    /**
+     * Stops trusting the grid evaluation once the player moves items in the view.
+     *
+     * @param event The InventoryClickEvent
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onClick(InventoryClickEvent event) {
+        untrust(event.getView());
+    }
+
+    /**
+     * Stops trusting the grid evaluation once the player drags items in the view.
+     *
+     * @param event The InventoryDragEvent
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onDrag(InventoryDragEvent event) {
+        untrust(event.getView());
+    }
+
+    private static void untrust(InventoryView view) {
+        EVALUATIONS.computeIfPresent(view, (key, evaluation) ->
+            evaluation.trusted() ? new Evaluation(evaluation.types(), evaluation.valid(), false) : evaluation);
+    }
+
+    private static boolean isRevivalRecipe(Recipe recipe) {
+        return recipe instanceof Keyed keyed && keyed.getKey().equals(RevivalRecipe.recipeKey);
+    }
+
+    private static boolean hasOnlyRealHearts(ItemStack[] matrix) {
+        for (ItemStack item : matrix) {
+            if (item != null && LifeStealUtil.isHeartMaterial(item.getType()) && !LifeStealUtil.isHeartItem(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Material[] typesOf(ItemStack[] matrix) {
+        Material[] types = new Material[matrix.length];
+        for (int slot = 0; slot < matrix.length; slot++) {
+            types[slot] = typeOf(matrix[slot]);
+        }
+        return types;
+    }
+
+    private static Material typeOf(ItemStack item) {
+        return item == null || item.isEmpty() ? null : item.getType();
+    }
+}
@@ -0,0 +1,202 @@
+package me.honeyberries.lifeSteal.manager;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import me.honeyberries.lifeSteal.util.TimingWheel;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tags players in combat and punishes those who log out while tagged.
+ * <p>
+ * A hit tags both players. Tags are kept in a map keyed by UUID, and their expiries in a
+ * {@link TimingWheel} advanced by a single task once a second, so re-tagging and quitting
+ * only touch one map entry and one timer. A player who quits while tagged is treated as
+ * if they were killed by the last player who hit them; being kicked does not count.
+ */
+public class CombatTags {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+    /**
+     * A combat tag.
+     *
+     * @param lastAttacker The last player who hit the tagged player, or null if they only attacked.
+     * @param expiry       The timer that ends the tag.
+     */
+    private record Tag(@Nullable UUID lastAttacker, TimingWheel.Timer<UUID> expiry) {}
+
+    private static final Map<UUID, Tag> TAGS = new ConcurrentHashMap<>();
+    private static final TimingWheel<UUID> WHEEL = new TimingWheel<>(nowSeconds());
+
+    private static ScheduledTask tickTask;
+
+    /**
+     * Starts expiring tags.
+     */
+    public static void initialize() {
+        tickTask = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> tick(), 1L, 1L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops expiring tags.
+     */
+    public static void shutdown() {
+        if (tickTask != null && !tickTask.isCancelled()) {
+            tickTask.cancel();
+        }
+    }
+
+    /**
+     * Tags the victim and the attacker of a hit.
+     *
+     * @param victim   The player who was hit
+     * @param attacker The player who hit them
+     */
+    public static void tag(@NotNull Player victim, @NotNull Player attacker) {
+        if (!LifeStealSettings.isCombatTagEnabled()) {
+            return;
+        }
+        tag(victim, attacker.getUniqueId());
+        tag(attacker, null);
+    }
+
+    private static void tag(Player player, @Nullable UUID attacker) {
+        UUID uuid = player.getUniqueId();
+        TimingWheel.Timer<UUID> expiry = WHEEL.schedule(uuid, nowSeconds() + LifeStealSettings.getCombatTagSeconds());
+        Tag previous = TAGS.get(uuid);
+        UUID lastAttacker = attacker != null ? attacker : previous != null ? previous.lastAttacker() : null;
+        previous = TAGS.put(uuid, new Tag(lastAttacker, expiry));
+        if (previous != null) {
+            WHEEL.cancel(previous.expiry());
+        } else {
+            player.sendMessage(Messages.combatTagged(String.valueOf(LifeStealSettings.getCombatTagSeconds())));
+        }
+    }
+
+    /**
+     * Checks whether a player is tagged.
+     *
+     * @param uuid The UUID of the player
+     * @return true if the player is in combat
+     */
+    public static boolean isTagged(@NotNull UUID uuid) {
+        return TAGS.containsKey(uuid);
+    }
+
+    /**
+     * Removes a player's tag without a penalty, for example when they die.
+     *
+     * @param uuid The UUID of the player
+     */
+    public static void clear(@NotNull UUID uuid) {
+        Tag tag = TAGS.remove(uuid);
+        if (tag != null) {
+            WHEEL.cancel(tag.expiry());
+        }
+    }
+
+    /**
+     * Applies the player death penalty to a player quitting while tagged, and credits the
+     * last player who hit them. Must be called from the quit event, and not for kicks.
+     * An elimination is only recorded and applied when the player next joins.
+     *
+     * @param player The quitting player
+     */
+    public static void handleQuit(@NotNull Player player) {
+        Tag tag = TAGS.remove(player.getUniqueId());
+        // A tag whose timer already fired has expired, the sweep just has not removed it yet
+        if (tag == null || !WHEEL.cancel(tag.expiry())) {
+            return;
+        }
+        if (PermissionTierCache.isBypassed(player) || HeartTimers.isProtected(player.getUniqueId())) {
+            return;
+        }
+
+        double healthLost = LifeStealSettings.getPlayerDeathHealthLost();
+        double current = LifeStealUtil.getMaxHealth(player);
+        if (!LifeStealSettings.isEliminationEnabled() && PermissionTierCache.isMinHealthLimitEnabled(player)) {
+            healthLost = Math.min(healthLost, Math.max(0, current - PermissionTierCache.getMinHealthLimit(player)));
+        }
+        if (healthLost > 0) {
+            LifeStealUtil.setMaxHealth(player, current - healthLost);
+            HeartEconomy.record(HeartEconomy.Flow.COMBAT_LOG_LOST, healthLost);
+            plugin.getLogger().info("%s lost %s health for logging out in combat.".formatted(
+                player.getName(), LifeStealUtil.formatHealth(healthLost)));
+        }
+
+        UUID attackerId = tag.lastAttacker();
+        if (healthLost > 0 && EliminationManager.shouldBeEliminated(player)) {
+            EliminationManager.eliminateQuitting(player, EliminationRoster.COMBAT_LOG_CAUSE, attackerId);
+        }
+        if (attackerId != null) {
+            credit(attackerId, Bukkit.getPlayer(attackerId), player.getName());
+        }
+    }
+
+    private static void credit(UUID attackerId, @Nullable Player attacker, String victimName) {
+        double healthGained = LifeStealSettings.getPlayerKillHealthGained();
+        if (healthGained <= 0) {
+            return;
+        }
+        if (attacker == null) {
+            double current = HeartLedger.getHealth(attackerId);
+            double gain = healthGained;
+            double maxHealthLimit = HeartLedger.getMaxHealthLimit(attackerId);
+            if (maxHealthLimit > 0) {
+                gain = Math.min(gain, Math.max(0, maxHealthLimit - current));
+            }
+            // Attackers the ledger never recorded are skipped rather than credited from a guessed max health
+            if (gain > 0 && HeartLedger.adjustOffline(attackerId, gain)) {
+                HeartEconomy.record(HeartEconomy.Flow.KILL_GAINED, gain);
+                HeartTimers.scheduleDecay(attackerId, gain);
+            }
+            return;
+        }
+
+        attacker.getScheduler().run(plugin, task -> {
+            double current = LifeStealUtil.getMaxHealth(attacker);
+            double gain = healthGained;
+            if (PermissionTierCache.isMaxHealthLimitEnabled(attacker)) {
+                gain = Math.min(gain, Math.max(0, PermissionTierCache.getMaxHealthLimit(attacker) - current));
+            }
+            if (gain <= 0) {
+                return;
+            }
+            LifeStealUtil.setMaxHealth(attacker, current + gain);
+            HeartEconomy.record(HeartEconomy.Flow.KILL_GAINED, gain);
+            HeartTimers.scheduleDecay(attackerId, gain);
+            double hearts = gain / LifeStealConstants.HEALTH_POINTS_PER_HEART;
+            attacker.sendMessage(Messages.combatLogCredit(victimName, LifeStealUtil.formatHealth(hearts), hearts == 1.0 ? "heart" : "hearts"));
+        }, null);
+    }
+
+    private static void tick() {
+        for (UUID uuid : WHEEL.advance(nowSeconds())) {
+            // Only remove the tag if it still belongs to the timer that fired
+            Tag removed = TAGS.computeIfPresent(uuid, (key, tag) -> WHEEL.isPending(tag.expiry()) ? tag : null);
+            if (removed != null) {
+                continue;
+            }
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                player.getScheduler().run(plugin, task -> player.sendMessage(Messages.combatUntagged()), null);
+            }
+        }
+    }
+
+    private static long nowSeconds() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+    }
+}
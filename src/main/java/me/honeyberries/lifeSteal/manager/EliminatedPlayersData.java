@@ -1,7 +1,10 @@
 package me.honeyberries.lifeSteal.manager;
 
 import me.honeyberries.lifeSteal.LifeSteal;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -13,6 +16,10 @@ import java.util.logging.Level;
 /**
  * Manages persistent storage of eliminated players in a YAML file.
  * This provides a workaround for the read-only PDC limitation on OfflinePlayer.
+ * <p>
+ * The file keeps the plain list of eliminated UUIDs for compatibility, with the name,
+ * time, cause, killer and expiry of each elimination stored alongside it. Reads are served
+ * from the in-memory {@link EliminationRoster}.
  */
 public class EliminatedPlayersData {
 
@@ -20,6 +27,7 @@ public class EliminatedPlayersData {
     private static File dataFile;
     private static YamlConfiguration dataConfig;
     private static final String ELIMINATED_PLAYERS_KEY = "eliminated-players";
+    private static final String DETAILS_KEY = "details";
 
     /**
      * Initializes the eliminated players data file.
@@ -37,8 +45,33 @@ public class EliminatedPlayersData {
     /**
      * Reloads the data from the file.
      */
-    public static void reload() {
+    public static synchronized void reload() {
         dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+
+        List<EliminationRoster.Entry> entries = new ArrayList<>();
+        ConfigurationSection details = dataConfig.getConfigurationSection(DETAILS_KEY);
+        for (String uuidString : dataConfig.getStringList(ELIMINATED_PLAYERS_KEY)) {
+            try {
+                UUID uuid = UUID.fromString(uuidString);
+                ConfigurationSection section = details != null ? details.getConfigurationSection(uuidString) : null;
+                if (section == null) {
+                    entries.add(new EliminationRoster.Entry(uuid, null, 0L, EliminationRoster.UNKNOWN_CAUSE, null, 0L));
+                    continue;
+                }
+                String killer = section.getString("killer");
+                entries.add(new EliminationRoster.Entry(
+                    uuid,
+                    section.getString("name"),
+                    section.getLong("eliminated-at"),
+                    section.getString("cause", EliminationRoster.UNKNOWN_CAUSE),
+                    killer != null ? UUID.fromString(killer) : null,
+                    section.getLong("expires-at")
+                ));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid UUID in eliminated_players.yml: " + uuidString);
+            }
+        }
+        EliminationRoster.load(entries);
     }
 
     /**
@@ -59,66 +92,116 @@ public class EliminatedPlayersData {
      * @return true if the player is eliminated, false otherwise
      */
     public static boolean isEliminated(UUID uuid) {
-        List<String> eliminatedPlayers = dataConfig.getStringList(ELIMINATED_PLAYERS_KEY);
-        return eliminatedPlayers.contains(uuid.toString());
+        return EliminationRoster.snapshot().contains(uuid);
     }
 
     /**
-     * Marks a player as eliminated.
+     * Marks a player as eliminated without any details.
      *
      * @param uuid The UUID of the player
      */
     public static void setEliminated(UUID uuid) {
-        List<String> eliminatedPlayers = dataConfig.getStringList(ELIMINATED_PLAYERS_KEY);
-        String uuidString = uuid.toString();
+        setEliminated(new EliminationRoster.Entry(uuid, PlayerNameIndex.getName(uuid), System.currentTimeMillis(),
+            EliminationRoster.UNKNOWN_CAUSE, null, 0L));
+    }
 
-        if (!eliminatedPlayers.contains(uuidString)) {
-            eliminatedPlayers.add(uuidString);
-            dataConfig.set(ELIMINATED_PLAYERS_KEY, eliminatedPlayers);
-            save();
+    /**
+     * Marks a player as eliminated.
+     *
+     * @param entry The details of the elimination
+     * @return true if the player was eliminated by this call, false if they already were
+     */
+    public static boolean setEliminated(@NotNull EliminationRoster.Entry entry) {
+        if (!EliminationRoster.add(entry)) {
+            return false;
         }
+        persist(entry.uuid());
+        return true;
     }
 
     /**
-     * Removes a player from the eliminated list (revives them).
+     * Updates the stored name of an eliminated player after a name change.
      *
      * @param uuid The UUID of the player
+     * @param name The player's current name
+     * @return The previous name if the player is eliminated and their name changed, otherwise null
      */
-    public static void removeEliminated(UUID uuid) {
-        List<String> eliminatedPlayers = dataConfig.getStringList(ELIMINATED_PLAYERS_KEY);
-        String uuidString = uuid.toString();
+    @Nullable
+    public static String updateName(@NotNull UUID uuid, @NotNull String name) {
+        EliminationRoster.Entry entry = EliminationRoster.snapshot().get(uuid);
+        if (entry == null || name.equals(entry.name())) {
+            return null;
+        }
+        EliminationRoster.Entry renamed = new EliminationRoster.Entry(uuid, name, entry.eliminatedAt(), entry.cause(), entry.killer(),
+            entry.expiresAt());
+        if (!EliminationRoster.replace(entry, renamed)) {
+            return null;
+        }
+        persist(uuid);
+        return entry.displayName();
+    }
 
-        if (eliminatedPlayers.remove(uuidString)) {
-            dataConfig.set(ELIMINATED_PLAYERS_KEY, eliminatedPlayers);
-            save();
+    /**
+     * Removes a player from the eliminated list (revives them).
+     * When several callers remove the same player at once, exactly one of them wins.
+     *
+     * @param uuid The UUID of the player
+     * @return The removed entry, or null if the player was not eliminated or someone else removed them first
+     */
+    @Nullable
+    public static EliminationRoster.Entry removeEliminated(UUID uuid) {
+        EliminationRoster.Entry removed = EliminationRoster.remove(uuid);
+        if (removed != null) {
+            persist(uuid);
         }
+        return removed;
     }
 
     /**
-     * Gets all eliminated player UUIDs.
+     * Gets all eliminated player UUIDs in order of elimination, oldest first.
      *
      * @return List of eliminated player UUIDs
      */
     public static List<UUID> getEliminatedPlayers() {
-        List<String> eliminatedPlayers = dataConfig.getStringList(ELIMINATED_PLAYERS_KEY);
-        List<UUID> uuids = new ArrayList<>();
-
-        for (String uuidString : eliminatedPlayers) {
-            try {
-                uuids.add(UUID.fromString(uuidString));
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid UUID in eliminated_players.yml: " + uuidString);
-            }
+        List<EliminationRoster.Entry> recent = EliminationRoster.snapshot().recent();
+        List<UUID> uuids = new ArrayList<>(recent.size());
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            uuids.add(recent.get(i).uuid());
         }
-
         return uuids;
     }
 
     /**
      * Clears all eliminated players.
      */
-    public static void clearAll() {
+    public static synchronized void clearAll() {
         dataConfig.set(ELIMINATED_PLAYERS_KEY, new ArrayList<>());
+        dataConfig.set(DETAILS_KEY, null);
+        EliminationRoster.load(List.of());
         save();
     }
+
+    /**
+     * Writes a player's current roster state to the file. The list is rebuilt from the
+     * current snapshot, so concurrent changes can never leave the file out of step.
+     */
+    private static synchronized void persist(UUID uuid) {
+        dataConfig.set(ELIMINATED_PLAYERS_KEY, getEliminatedPlayers().stream().map(UUID::toString).toList());
+        EliminationRoster.Entry entry = EliminationRoster.snapshot().get(uuid);
+        if (entry != null) {
+            writeDetails(entry);
+        } else {
+            dataConfig.set(DETAILS_KEY + "." + uuid, null);
+        }
+        save();
+    }
+
+    private static void writeDetails(EliminationRoster.Entry entry) {
+        String path = DETAILS_KEY + "." + entry.uuid();
+        dataConfig.set(path + ".name", entry.name());
+        dataConfig.set(path + ".eliminated-at", entry.eliminatedAt());
+        dataConfig.set(path + ".cause", entry.cause());
+        dataConfig.set(path + ".killer", entry.killer() != null ? entry.killer().toString() : null);
+        dataConfig.set(path + ".expires-at", entry.isTemporary() ? entry.expiresAt() : null);
+    }
 }
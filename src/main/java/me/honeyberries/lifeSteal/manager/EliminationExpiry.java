@@ -0,0 +1,123 @@
+package me.honeyberries.lifeSteal.manager;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revives players automatically when their timed elimination runs out.
+ * <p>
+ * Deadlines are kept in a min-heap ordered by expiry, and a single delayed task sleeps
+ * until the earliest one. There are no per-player tasks and no periodic scans. The expiry
+ * of each elimination is persisted with the rest of its details in eliminated_players.yml,
+ * so the heap is rebuilt on startup and deadlines that passed while the server was down
+ * fire right away.
+ * <p>
+ * Revivals and re-eliminations are never removed from the heap. A deadline is only acted
+ * on if the roster still holds the same elimination when it fires.
+ */
+public class EliminationExpiry {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+    private record Deadline(UUID uuid, long expiresAt) {}
+
+    private static final PriorityQueue<Deadline> QUEUE = new PriorityQueue<>(Comparator.comparingLong(Deadline::expiresAt));
+    private static ScheduledTask wakeup;
+    private static long wakeupAt = Long.MAX_VALUE;
+
+    /**
+     * Builds the heap from the elimination roster and schedules the first wakeup.
+     * Must run after the eliminated players data and the heart ledger are loaded.
+     */
+    public static synchronized void initialize() {
+        QUEUE.clear();
+        for (EliminationRoster.Entry entry : EliminationRoster.snapshot().recent()) {
+            if (entry.isTemporary()) {
+                QUEUE.add(new Deadline(entry.uuid(), entry.expiresAt()));
+            }
+        }
+        reschedule();
+    }
+
+    /**
+     * Cancels the pending wakeup. Deadlines stay in the data file.
+     */
+    public static synchronized void shutdown() {
+        if (wakeup != null) {
+            wakeup.cancel();
+            wakeup = null;
+        }
+        wakeupAt = Long.MAX_VALUE;
+    }
+
+    /**
+     * Adds the deadline of a new elimination. Permanent eliminations are ignored.
+     *
+     * @param entry The elimination
+     */
+    public static synchronized void schedule(@NotNull EliminationRoster.Entry entry) {
+        if (!entry.isTemporary()) {
+            return;
+        }
+        QUEUE.add(new Deadline(entry.uuid(), entry.expiresAt()));
+        if (entry.expiresAt() < wakeupAt) {
+            reschedule();
+        }
+    }
+
+    /**
+     * Points the wakeup task at the earliest deadline. Callers hold the lock.
+     */
+    private static void reschedule() {
+        Deadline next = QUEUE.peek();
+        if (next != null && next.expiresAt() == wakeupAt && wakeup != null) {
+            return;
+        }
+        if (wakeup != null) {
+            wakeup.cancel();
+            wakeup = null;
+        }
+        if (next == null) {
+            wakeupAt = Long.MAX_VALUE;
+            return;
+        }
+        wakeupAt = next.expiresAt();
+        long delay = Math.max(1L, next.expiresAt() - System.currentTimeMillis());
+        wakeup = Bukkit.getAsyncScheduler().runDelayed(plugin, task -> expire(), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static void expire() {
+        List<Deadline> due = new ArrayList<>();
+        synchronized (EliminationExpiry.class) {
+            wakeup = null;
+            wakeupAt = Long.MAX_VALUE;
+            long now = System.currentTimeMillis();
+            while (!QUEUE.isEmpty() && QUEUE.peek().expiresAt() <= now) {
+                due.add(QUEUE.poll());
+            }
+            reschedule();
+        }
+
+        for (Deadline deadline : due) {
+            EliminationRoster.Entry entry = EliminationRoster.snapshot().get(deadline.uuid());
+            // Revived, or eliminated again with another expiry, since this deadline was queued
+            if (entry == null || entry.expiresAt() != deadline.expiresAt()) {
+                continue;
+            }
+            OfflinePlayer player = Bukkit.getOfflinePlayer(deadline.uuid());
+            if (EliminationManager.revivePlayer(player)) {
+                plugin.getLogger().info("The elimination of " + entry.displayName() + " has expired.");
+            }
+        }
+    }
+}
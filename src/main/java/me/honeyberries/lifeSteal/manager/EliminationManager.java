@@ -5,13 +5,11 @@ import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
 import me.honeyberries.lifeSteal.config.Messages;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
-import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -38,18 +36,32 @@ public class EliminationManager {
      * @param player The player to eliminate
      */
     public static void eliminatePlayer(Player player) {
+        eliminatePlayer(player, EliminationRoster.UNKNOWN_CAUSE, null);
+    }
+
+    /**
+     * Eliminates a player based on the configured elimination mode, recording what eliminated them.
+     *
+     * @param player The player to eliminate
+     * @param cause  What eliminated the player, such as a damage cause or COMMAND
+     * @param killer The player who landed the final kill, or null
+     */
+    public static void eliminatePlayer(Player player, String cause, @Nullable Player killer) {
         if (!LifeStealSettings.isEliminationEnabled()) {
             return;
         }
 
-        // Mark player as eliminated in file storage
-        EliminatedPlayersData.setEliminated(player.getUniqueId());
+        recordElimination(player, cause, killer != null ? killer.getUniqueId() : null);
 
         String mode = LifeStealSettings.getEliminationMode();
 
         if ("SPECTATOR".equalsIgnoreCase(mode)) {
-            // Set to spectator mode using Folia scheduler
-            player.getScheduler().run(plugin, task -> player.setGameMode(GameMode.SPECTATOR), null);
+            // Set to spectator mode using Folia scheduler, and move them to limbo if enabled
+            player.getScheduler().run(plugin, task -> {
+                player.setGameMode(GameMode.SPECTATOR);
+                SpectatorDistances.apply(player);
+                LimboWorld.send(player);
+            }, null);
             player.sendMessage(Messages.eliminatedSpectator());
 
             plugin.getLogger().info(player.getName() + " has been eliminated and set to spectator mode.");
@@ -61,20 +73,63 @@ public class EliminationManager {
         }
     }
 
+    /**
+     * Eliminates a player who is logging out, for example for combat logging.
+     * <p>
+     * The player's entity scheduler is being retired, so nothing is scheduled on it. The
+     * elimination is only recorded, and the join listener applies the spectator mode or
+     * kick on their next join, as for players eliminated while offline.
+     *
+     * @param player The player who is logging out
+     * @param cause  What eliminated the player
+     * @param killer The UUID of the player credited with the kill, or null
+     */
+    public static void eliminateQuitting(Player player, String cause, @Nullable UUID killer) {
+        if (!LifeStealSettings.isEliminationEnabled()) {
+            return;
+        }
+        recordElimination(player, cause, killer);
+        plugin.getLogger().info(player.getName() + " has been eliminated while logging out, applied on their next join.");
+    }
+
+    /**
+     * Adds a player to the elimination roster and everything that mirrors it.
+     */
+    private static void recordElimination(Player player, String cause, @Nullable UUID killer) {
+        long now = System.currentTimeMillis();
+        long duration = LifeStealSettings.getEliminationDurationMillis();
+        EliminationRoster.Entry entry = new EliminationRoster.Entry(
+            player.getUniqueId(),
+            player.getName(),
+            now,
+            cause,
+            killer,
+            duration > 0 ? now + duration : 0L
+        );
+        if (EliminatedPlayersData.setEliminated(entry)) {
+            EliminationExpiry.schedule(entry);
+        }
+        PlayerSuggestions.addEliminated(player.getName());
+        SkullProfileCache.offer(player.getPlayerProfile());
+    }
+
     /**
      * Revives an eliminated player, giving them the configured revival health.
      * Works for both online and offline players using file-based storage.
+     * <p>
+     * Revival is a compare-and-set on the elimination roster: when several revivals of the
+     * same player race, exactly one returns true and only that caller may charge for it.
      *
      * @param player The player to revive
-     * @return true if the player was successfully revived, false if they were not eliminated
+     * @return true if this call revived the player, false if they were not eliminated or someone else revived them first
      */
     public static boolean revivePlayer(OfflinePlayer player) {
-        if (!isEliminated(player)) {
+        // Remove eliminated status atomically, only the winner continues
+        EliminationRoster.Entry entry = EliminatedPlayersData.removeEliminated(player.getUniqueId());
+        if (entry == null) {
             return false;
         }
-
-        // Remove eliminated status from file storage
-        EliminatedPlayersData.removeEliminated(player.getUniqueId());
+        PlayerSuggestions.removeEliminated(entry.displayName());
 
         // If player is online, update their health and gamemode
         if (player.isOnline()) {
@@ -84,6 +139,7 @@ public class EliminationManager {
                 onlinePlayer.getScheduler().run(plugin, task -> {
                     // Set health to revival health
                     double revivalHealth = LifeStealSettings.getRevivalHealth();
+                    HeartEconomy.record(HeartEconomy.Flow.REVIVED, revivalHealth - LifeStealUtil.getMaxHealth(onlinePlayer));
                     LifeStealUtil.setMaxHealth(onlinePlayer, revivalHealth);
                     onlinePlayer.setHealth(revivalHealth);
 
@@ -91,6 +147,8 @@ public class EliminationManager {
                     if (onlinePlayer.getGameMode() == GameMode.SPECTATOR) {
                         onlinePlayer.setGameMode(GameMode.SURVIVAL);
                     }
+                    SpectatorDistances.restore(onlinePlayer);
+                    LimboWorld.release(onlinePlayer);
 
                     // Send revival message
                     double hearts = revivalHealth / 2.0;
@@ -100,8 +158,11 @@ public class EliminationManager {
                         LifeStealUtil.formatHealth(hearts),
                         heartsWord
                     ));
-                }, null);
+                // The roster entry is already gone, so a player who quit in the meantime is revived offline
+                }, () -> reviveOffline(player.getUniqueId()));
             }
+        } else {
+            reviveOffline(player.getUniqueId());
         }
 
         plugin.getLogger().info(player.getName() + " has been revived.");
@@ -109,20 +170,14 @@ public class EliminationManager {
     }
 
     /**
-     * Gets a list of all eliminated players.
+     * Gives an offline player their revival health, applied from the ledger on their next join.
+     * Their gamemode, distances and limbo are restored by the join listener.
      *
-     * @return List of eliminated players
+     * @param uuid The UUID of the revived player
      */
-    public static List<OfflinePlayer> getEliminatedPlayers() {
-        List<OfflinePlayer> eliminated = new ArrayList<>();
-        List<UUID> eliminatedUUIDs = EliminatedPlayersData.getEliminatedPlayers();
-
-        for (UUID uuid : eliminatedUUIDs) {
-            OfflinePlayer player = Bukkit.getOfflinePlayer(uuid);
-            eliminated.add(player);
-        }
-
-        return eliminated;
+    private static void reviveOffline(UUID uuid) {
+        double oldHealth = HeartLedger.setOffline(uuid, LifeStealSettings.getRevivalHealth());
+        HeartEconomy.record(HeartEconomy.Flow.REVIVED, LifeStealSettings.getRevivalHealth() - oldHealth);
     }
 
     /**
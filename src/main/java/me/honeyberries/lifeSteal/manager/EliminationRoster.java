@@ -0,0 +1,281 @@
+package me.honeyberries.lifeSteal.manager;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An in-memory view of every eliminated player, shared by the revival GUI,
+ * tab completion and the eliminated player listing.
+ * <p>
+ * The roster is copy-on-write: eliminations and revivals publish a new immutable
+ * {@link Snapshot} with a compare-and-set, and readers take one volatile read to get
+ * a consistent view without locking or copying. Sorted views are built once per snapshot.
+ */
+public class EliminationRoster {
+
+    /** The cause recorded for eliminations from before causes were stored. */
+    public static final String UNKNOWN_CAUSE = "UNKNOWN";
+    /** The cause recorded when a player is eliminated by another player's kill. */
+    public static final String PLAYER_KILL_CAUSE = "PLAYER_KILL";
+    /** The cause recorded when an admin eliminates a player with a command. */
+    public static final String COMMAND_CAUSE = "COMMAND";
+    /** The cause recorded when a player logs out while tagged in combat. */
+    public static final String COMBAT_LOG_CAUSE = "COMBAT_LOG";
+
+    private static final DateTimeFormatter TIME_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+
+    /**
+     * A single eliminated player.
+     *
+     * @param uuid         The UUID of the player.
+     * @param name         The player's last known name, or null if it is unknown.
+     * @param eliminatedAt The time of the elimination in epoch milliseconds, or 0 if it is unknown.
+     * @param cause        What eliminated the player, such as a damage cause or COMMAND.
+     * @param killer       The UUID of the player who landed the final kill, or null.
+     * @param expiresAt    When the player is revived automatically in epoch milliseconds, or 0 if never.
+     */
+    public record Entry(UUID uuid, @Nullable String name, long eliminatedAt, String cause, @Nullable UUID killer, long expiresAt) {
+
+        /**
+         * Gets the name to show for this player, falling back to the name index.
+         *
+         * @return The player's name, or "Unknown"
+         */
+        @NotNull
+        public String displayName() {
+            if (name != null) {
+                return name;
+            }
+            String indexed = PlayerNameIndex.getName(uuid);
+            return indexed != null ? indexed : "Unknown";
+        }
+
+        /**
+         * Describes what eliminated this player, for example "Killed by Steve" or "Fall".
+         *
+         * @return A readable description of the cause
+         */
+        @NotNull
+        public String describeCause() {
+            return switch (cause) {
+                case PLAYER_KILL_CAUSE -> {
+                    String killerName = killer != null ? PlayerNameIndex.getName(killer) : null;
+                    yield "Killed by " + (killerName != null ? killerName : "a player");
+                }
+                case COMMAND_CAUSE -> "Eliminated by an admin";
+                case COMBAT_LOG_CAUSE -> "Logged out in combat";
+                case UNKNOWN_CAUSE, "" -> "Unknown cause";
+                default -> {
+                    String words = cause.toLowerCase(Locale.ROOT).replace('_', ' ');
+                    yield Character.toUpperCase(words.charAt(0)) + words.substring(1);
+                }
+            };
+        }
+
+        /**
+         * Formats the time of the elimination in the server's time zone.
+         *
+         * @return The formatted time, or "Unknown time" for old eliminations
+         */
+        @NotNull
+        public String describeTime() {
+            return eliminatedAt > 0 ? TIME_FORMAT.format(Instant.ofEpochMilli(eliminatedAt)) : "Unknown time";
+        }
+
+        /**
+         * Formats the time the elimination runs out in the server's time zone.
+         *
+         * @return The formatted time, or "Never" for permanent eliminations
+         */
+        @NotNull
+        public String describeExpiry() {
+            return isTemporary() ? TIME_FORMAT.format(Instant.ofEpochMilli(expiresAt)) : "Never";
+        }
+
+        /**
+         * @return true if the elimination ends on its own
+         */
+        public boolean isTemporary() {
+            return expiresAt > 0;
+        }
+    }
+
+    /**
+     * An immutable, consistent view of the roster.
+     */
+    public static final class Snapshot {
+        private final List<Entry> recent;
+        private final Map<UUID, Entry> byId;
+        private volatile List<Entry> byName;
+
+        private Snapshot(List<Entry> recent) {
+            this.recent = Collections.unmodifiableList(recent);
+            Map<UUID, Entry> index = new HashMap<>(recent.size() * 2);
+            for (Entry entry : recent) {
+                index.put(entry.uuid(), entry);
+            }
+            this.byId = index;
+        }
+
+        /**
+         * @return The eliminated players, most recently eliminated first
+         */
+        @NotNull
+        public List<Entry> recent() {
+            return recent;
+        }
+
+        /**
+         * @return The eliminated players sorted by name, sorted once per snapshot
+         */
+        @NotNull
+        public List<Entry> byName() {
+            List<Entry> sorted = byName;
+            if (sorted == null) {
+                List<Entry> copy = new ArrayList<>(recent);
+                copy.sort(Comparator.comparing(Entry::displayName, String.CASE_INSENSITIVE_ORDER));
+                sorted = Collections.unmodifiableList(copy);
+                byName = sorted;
+            }
+            return sorted;
+        }
+
+        /**
+         * @param uuid The UUID of the player
+         * @return The player's entry, or null if they are not eliminated
+         */
+        @Nullable
+        public Entry get(@NotNull UUID uuid) {
+            return byId.get(uuid);
+        }
+
+        /**
+         * @param uuid The UUID of the player
+         * @return true if the player is eliminated in this snapshot
+         */
+        public boolean contains(@NotNull UUID uuid) {
+            return byId.containsKey(uuid);
+        }
+
+        /**
+         * @return The number of eliminated players
+         */
+        public int size() {
+            return recent.size();
+        }
+
+        /**
+         * @return true if nobody is eliminated
+         */
+        public boolean isEmpty() {
+            return recent.isEmpty();
+        }
+    }
+
+    private static final AtomicReference<Snapshot> SNAPSHOT = new AtomicReference<>(new Snapshot(List.of()));
+
+    /**
+     * Gets the current roster.
+     *
+     * @return The current snapshot
+     */
+    @NotNull
+    public static Snapshot snapshot() {
+        return SNAPSHOT.get();
+    }
+
+    /**
+     * Replaces the roster with loaded entries.
+     *
+     * @param entries The entries in order of elimination, oldest first
+     */
+    static void load(@NotNull Collection<Entry> entries) {
+        List<Entry> recent = new ArrayList<>(entries);
+        Collections.reverse(recent);
+        SNAPSHOT.set(new Snapshot(recent));
+    }
+
+    /**
+     * Adds a player's entry as the most recent, if the player is not already on the roster.
+     *
+     * @param entry The entry to add
+     * @return true if this call added the entry, false if the player was already eliminated
+     */
+    static boolean add(@NotNull Entry entry) {
+        while (true) {
+            Snapshot current = SNAPSHOT.get();
+            if (current.contains(entry.uuid())) {
+                return false;
+            }
+            List<Entry> recent = new ArrayList<>(current.size() + 1);
+            recent.add(entry);
+            recent.addAll(current.recent());
+            if (SNAPSHOT.compareAndSet(current, new Snapshot(recent))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Replaces a player's entry in place, keeping its position.
+     *
+     * @param expected The entry that must still be on the roster
+     * @param entry    The updated entry
+     * @return true if the entry was replaced, false if it changed or was removed in the meantime
+     */
+    static boolean replace(@NotNull Entry expected, @NotNull Entry entry) {
+        while (true) {
+            Snapshot current = SNAPSHOT.get();
+            if (current.get(expected.uuid()) != expected) {
+                return false;
+            }
+            List<Entry> recent = new ArrayList<>(current.recent());
+            recent.replaceAll(existing -> existing == expected ? entry : existing);
+            if (SNAPSHOT.compareAndSet(current, new Snapshot(recent))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes a player's entry. This is a compare-and-set on the roster: when several
+     * callers remove the same player at once, exactly one of them gets the entry back.
+     *
+     * @param uuid The UUID of the player
+     * @return The removed entry, or null if the player was not on the roster or someone else removed them first
+     */
+    @Nullable
+    static Entry remove(@NotNull UUID uuid) {
+        while (true) {
+            Snapshot current = SNAPSHOT.get();
+            Entry removed = current.get(uuid);
+            if (removed == null) {
+                return null;
+            }
+            List<Entry> recent = new ArrayList<>(current.size() - 1);
+            for (Entry existing : current.recent()) {
+                if (existing != removed) {
+                    recent.add(existing);
+                }
+            }
+            if (SNAPSHOT.compareAndSet(current, new Snapshot(recent))) {
+                return removed;
+            }
+        }
+    }
+}
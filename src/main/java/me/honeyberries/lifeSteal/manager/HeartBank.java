@@ -0,0 +1,214 @@
+package me.honeyberries.lifeSteal.manager;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * A persistent per-player balance of heart items that exist only as a number.
+ * <p>
+ * With the bank enabled, withdrawn hearts are credited here instead of being given as
+ * items, so large withdrawals no longer drop piles of item entities when the inventory
+ * is full. Items are only created when a player takes them out of the bank, and only as
+ * many as fit in their inventory. Balances are counted in heart items and written back
+ * in batches by a periodic asynchronous flush, like the {@link HeartLedger}.
+ * <p>
+ * A balance never goes past {@link Integer#MAX_VALUE}. Deposits and transfers that would
+ * overflow are refused as a whole instead of being clamped, so no hearts are lost.
+ */
+public class HeartBank {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final String BALANCES_KEY = "balances";
+
+    private static File dataFile;
+    private static YamlConfiguration dataConfig;
+    private static ScheduledTask flushTask;
+
+    private static final Map<UUID, Integer> BALANCES = new ConcurrentHashMap<>();
+    private static final Set<UUID> DIRTY = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong TOTAL = new AtomicLong();
+
+    /**
+     * Loads the balances from disk and starts the periodic flush.
+     */
+    public static void initialize() {
+        dataFile = new File(plugin.getDataFolder(), "heart_bank.yml");
+        dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+        BALANCES.clear();
+        DIRTY.clear();
+        TOTAL.set(0);
+
+        ConfigurationSection balances = dataConfig.getConfigurationSection(BALANCES_KEY);
+        if (balances != null) {
+            for (String key : balances.getKeys(false)) {
+                try {
+                    int balance = balances.getInt(key);
+                    if (balance > 0) {
+                        BALANCES.put(UUID.fromString(key), balance);
+                        TOTAL.addAndGet(balance);
+                    }
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Invalid UUID in heart_bank.yml: " + key);
+                }
+            }
+        }
+
+        flushTask = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> flush(),
+            LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes all remaining changes.
+     */
+    public static void shutdown() {
+        if (flushTask != null && !flushTask.isCancelled()) {
+            flushTask.cancel();
+        }
+        flush();
+    }
+
+    /**
+     * Gets the number of heart items a player has in the bank.
+     *
+     * @param uuid The UUID of the player
+     * @return The balance, 0 if the player has never banked anything
+     */
+    public static int getBalance(@NotNull UUID uuid) {
+        return BALANCES.getOrDefault(uuid, 0);
+    }
+
+    /**
+     * Gets the number of heart items in every player's bank combined.
+     *
+     * @return The total banked heart items
+     */
+    public static long getTotal() {
+        return TOTAL.get();
+    }
+
+    /**
+     * Gets how many more heart items fit in a player's balance.
+     *
+     * @param uuid The UUID of the player
+     * @return The number of heart items that can still be deposited
+     */
+    public static int getRoom(@NotNull UUID uuid) {
+        return Integer.MAX_VALUE - getBalance(uuid);
+    }
+
+    /**
+     * Adds heart items to a player's balance, only if the whole amount fits.
+     *
+     * @param uuid   The UUID of the player
+     * @param amount The number of heart items to add
+     * @return true if the items were added, false if the balance would overflow and nothing was added
+     */
+    public static boolean deposit(@NotNull UUID uuid, int amount) {
+        boolean[] added = new boolean[1];
+        BALANCES.compute(uuid, (key, current) -> {
+            int balance = current != null ? current : 0;
+            if ((long) balance + amount > Integer.MAX_VALUE) {
+                return current;
+            }
+            added[0] = true;
+            return balance + amount;
+        });
+        if (added[0]) {
+            TOTAL.addAndGet(amount);
+            DIRTY.add(uuid);
+        }
+        return added[0];
+    }
+
+    /**
+     * Takes heart items from a player's balance, only if the whole amount is there.
+     *
+     * @param uuid   The UUID of the player
+     * @param amount The number of heart items to take
+     * @return true if the items were taken, false if the balance is too low
+     */
+    public static boolean take(@NotNull UUID uuid, int amount) {
+        boolean[] taken = new boolean[1];
+        BALANCES.computeIfPresent(uuid, (key, current) -> {
+            if (current < amount) {
+                return current;
+            }
+            taken[0] = true;
+            return current == amount ? null : current - amount;
+        });
+        if (taken[0]) {
+            TOTAL.addAndGet(-amount);
+            DIRTY.add(uuid);
+        }
+        return taken[0];
+    }
+
+    /**
+     * The outcome of a transfer between two balances.
+     */
+    public enum TransferResult {
+        /** The items were moved. */
+        MOVED,
+        /** The payer's balance was too low, nothing was moved. */
+        NOT_ENOUGH,
+        /** The receiver's balance would overflow, nothing was moved. */
+        RECEIVER_FULL
+    }
+
+    /**
+     * Moves heart items from one player's balance to another's, either all of them or none.
+     *
+     * @param from   The UUID of the paying player
+     * @param to     The UUID of the receiving player
+     * @param amount The number of heart items to move
+     * @return The outcome of the transfer
+     */
+    @NotNull
+    public static TransferResult transfer(@NotNull UUID from, @NotNull UUID to, int amount) {
+        if (!take(from, amount)) {
+            return TransferResult.NOT_ENOUGH;
+        }
+        if (!deposit(to, amount)) {
+            // Hand the payment back, it was on the payer's balance a moment ago
+            if (!deposit(from, amount)) {
+                plugin.getLogger().severe("Could not refund " + amount + " banked heart items to " + from + ", their balance is full.");
+            }
+            return TransferResult.RECEIVER_FULL;
+        }
+        return TransferResult.MOVED;
+    }
+
+    /**
+     * Writes all dirty balances to disk in a single batch.
+     */
+    public static synchronized void flush() {
+        if (DIRTY.isEmpty()) {
+            return;
+        }
+        for (UUID uuid : DIRTY) {
+            DIRTY.remove(uuid);
+            Integer balance = BALANCES.get(uuid);
+            dataConfig.set(BALANCES_KEY + "." + uuid, balance);
+        }
+        try {
+            dataConfig.save(dataFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save heart_bank.yml", e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package me.honeyberries.lifeSteal.manager;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.logging.Level;
+
+/**
+ * A running account of every heart on the server.
+ * <p>
+ * Hearts exist in three places: as max health, tracked by the {@link HeartLedger}, as heart
+ * items of any tier, counted here by health, and in the {@link HeartBank}. All three are kept up to date on every
+ * change, so the totals never require scanning inventories or player data. Next to the
+ * totals, every mechanic that creates or destroys hearts adds to a cumulative {@link Flow},
+ * which shows where inflation comes from, for example when kills grant more than deaths take.
+ * <p>
+ * The counters are written to heart_economy.yml together with a snapshot of the totals on
+ * every flush, so the file can be read by external metrics tools.
+ */
+public class HeartEconomy {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final String ITEMS_KEY = "heart-items";
+    private static final String ITEM_HEALTH_KEY = "heart-item-health";
+    private static final String FLOWS_KEY = "flows";
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    /**
+     * A way hearts enter or leave the server. Amounts are always recorded in health points.
+     */
+    public enum Flow {
+        /** Hearts gained by killers. */
+        KILL_GAINED("Gained from kills"),
+        /** Hearts lost by players killed by another player. */
+        KILL_LOST("Lost to kills"),
+        /** Hearts lost to natural deaths. */
+        NATURAL_LOST("Lost to natural deaths"),
+        /** Hearts lost by logging out in combat. */
+        COMBAT_LOG_LOST("Lost to combat logging"),
+        /** Kill hearts that wore off. */
+        DECAYED("Decayed"),
+        /** Hearts given back by revivals. */
+        REVIVED("Restored by revivals"),
+        /** Heart items crafted from materials. */
+        CRAFTED("Crafted as items"),
+        /** Heart items that despawned on the ground. */
+        DESPAWNED("Despawned as items"),
+        /** Heart items destroyed on the ground, for example by lava, fire, explosions or the void. */
+        DESTROYED("Destroyed as items"),
+        /** Heart items used up as crafting ingredients, for example for revival items. */
+        CONSUMED("Consumed by crafting"),
+        /** Heart items given a new value by a configuration change, positive or negative. */
+        REVALUED("Revalued by the config"),
+        /** Changes made by admin commands and resets, positive or negative. */
+        ADMIN("Changed by admins");
+
+        private final String label;
+
+        Flow(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return A readable name for this flow
+         */
+        @NotNull
+        public String label() {
+            return label;
+        }
+
+        /**
+         * @return true if this flow removes hearts from the server
+         */
+        public boolean isSink() {
+            return this == KILL_LOST || this == NATURAL_LOST || this == COMBAT_LOG_LOST
+                || this == DECAYED || this == DESPAWNED || this == DESTROYED || this == CONSUMED;
+        }
+    }
+
+    private static final Map<Flow, DoubleAdder> FLOWS = new EnumMap<>(Flow.class);
+    private static final AtomicLong HEART_ITEMS = new AtomicLong();
+    private static final DoubleAdder ITEM_HEALTH = new DoubleAdder();
+
+    static {
+        for (Flow flow : Flow.values()) {
+            FLOWS.put(flow, new DoubleAdder());
+        }
+    }
+
+    private static File dataFile;
+    private static ScheduledTask flushTask;
+
+    /**
+     * Loads the counters from disk and starts the periodic flush.
+     * Must run after the heart ledger and the heart bank are loaded.
+     */
+    public static void initialize() {
+        dataFile = new File(plugin.getDataFolder(), "heart_economy.yml");
+        YamlConfiguration dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+        HEART_ITEMS.set(dataConfig.getLong(ITEMS_KEY));
+        ITEM_HEALTH.reset();
+        // Counters from before tiers only counted items, all of them worth the default health
+        ITEM_HEALTH.add(dataConfig.getDouble(ITEM_HEALTH_KEY, HEART_ITEMS.get() * LifeStealSettings.getHealthPerItem()));
+        for (Flow flow : Flow.values()) {
+            FLOWS.get(flow).reset();
+            FLOWS.get(flow).add(dataConfig.getDouble(FLOWS_KEY + "." + flow.name().toLowerCase(Locale.ROOT)));
+        }
+
+        flushTask = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> flush(),
+            LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes the counters.
+     */
+    public static void shutdown() {
+        if (flushTask != null && !flushTask.isCancelled()) {
+            flushTask.cancel();
+        }
+        flush();
+    }
+
+    /**
+     * Records hearts entering or leaving the server.
+     *
+     * @param flow   How the hearts moved
+     * @param health The health points moved, always positive except for {@link Flow#ADMIN}
+     */
+    public static void record(@NotNull Flow flow, double health) {
+        if (health != 0) {
+            FLOWS.get(flow).add(health);
+        }
+    }
+
+    /**
+     * Counts heart items that were created, for example by withdrawing or crafting.
+     *
+     * @param items         The number of heart items
+     * @param healthPerItem The health each item gives
+     */
+    public static void itemsCreated(int items, double healthPerItem) {
+        HEART_ITEMS.addAndGet(items);
+        ITEM_HEALTH.add(items * healthPerItem);
+    }
+
+    /**
+     * Counts heart items that stopped existing, for example by being used or banked.
+     *
+     * @param items         The number of heart items
+     * @param healthPerItem The health each item gives
+     */
+    public static void itemsRemoved(int items, double healthPerItem) {
+        HEART_ITEMS.addAndGet(-items);
+        ITEM_HEALTH.add(-items * healthPerItem);
+    }
+
+    /**
+     * Counts heart items whose value changed, for example when they are upgraded to a tier's new health.
+     *
+     * @param items     The number of heart items
+     * @param oldHealth The health each item gave before
+     * @param newHealth The health each item gives now
+     */
+    public static void itemsRevalued(int items, double oldHealth, double newHealth) {
+        double change = items * (newHealth - oldHealth);
+        ITEM_HEALTH.add(change);
+        record(Flow.REVALUED, change);
+    }
+
+    /**
+     * @return The health points held as max health by every player
+     */
+    public static double getHeldAsHealth() {
+        return HeartLedger.getTotalHealth();
+    }
+
+    /**
+     * @return The number of heart items in existence
+     */
+    public static long getHeartItems() {
+        return Math.max(0, HEART_ITEMS.get());
+    }
+
+    /**
+     * @return The health points held as heart items of every tier
+     */
+    public static double getHeldAsItems() {
+        return Math.max(0, ITEM_HEALTH.sum());
+    }
+
+    /**
+     * @return The number of heart items in every player's heart bank
+     */
+    public static long getBankedItems() {
+        return HeartBank.getTotal();
+    }
+
+    /**
+     * @return The health points held as max health, items and banked items together
+     */
+    public static double getTotalHealth() {
+        // Banks hold default tier units, higher tiers are credited with what they are worth in them
+        return getHeldAsHealth() + getHeldAsItems() + getBankedItems() * LifeStealSettings.getHealthPerItem();
+    }
+
+    /**
+     * @param flow The flow to read
+     * @return The health points moved by the flow since the counters started
+     */
+    public static double getFlow(@NotNull Flow flow) {
+        return FLOWS.get(flow).sum();
+    }
+
+    /**
+     * Gets the hearts created by kills beyond what the victims lost.
+     *
+     * @return The health points kills added to the server, negative if they removed hearts
+     */
+    public static double getKillInflation() {
+        return getFlow(Flow.KILL_GAINED) - getFlow(Flow.KILL_LOST);
+    }
+
+    /**
+     * Writes the counters and a snapshot of the totals to disk.
+     */
+    public static synchronized void flush() {
+        if (dataFile == null) {
+            return;
+        }
+        YamlConfiguration dataConfig = new YamlConfiguration();
+        dataConfig.set(ITEMS_KEY, HEART_ITEMS.get());
+        dataConfig.set(ITEM_HEALTH_KEY, ITEM_HEALTH.sum());
+        for (Flow flow : Flow.values()) {
+            dataConfig.set(FLOWS_KEY + "." + flow.name().toLowerCase(Locale.ROOT), getFlow(flow));
+        }
+        dataConfig.set(SNAPSHOT_KEY + ".time", System.currentTimeMillis());
+        dataConfig.set(SNAPSHOT_KEY + ".held-as-health", getHeldAsHealth());
+        dataConfig.set(SNAPSHOT_KEY + ".heart-items", getHeartItems());
+        dataConfig.set(SNAPSHOT_KEY + ".held-as-items", getHeldAsItems());
+        dataConfig.set(SNAPSHOT_KEY + ".banked-items", getBankedItems());
+        dataConfig.set(SNAPSHOT_KEY + ".total-health", getTotalHealth());
+        dataConfig.set(SNAPSHOT_KEY + ".kill-inflation", getKillInflation());
+        try {
+            dataConfig.save(dataFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save heart_economy.yml", e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package me.honeyberries.lifeSteal.manager;
+
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.util.OrderStatisticSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An incrementally maintained ranking of players by max health.
+ * <p>
+ * Players are kept in half-heart buckets (one bucket per health point) counted by a
+ * Fenwick tree, so every heart change, rank lookup and page lookup costs O(log n)
+ * in the number of buckets instead of sorting every player. Within a bucket, players
+ * are kept in an {@link OrderStatisticSet}, so a page starting deep inside a crowded
+ * bucket, such as the default 20 health, is found in O(log n) as well. The leaderboard is fed
+ * by the {@link HeartLedger}, so it covers offline players as well.
+ */
+public class HeartLeaderboard {
+
+    private static final int BUCKETS = LifeStealConstants.LEADERBOARD_MAX_HEALTH + 1;
+
+    /** Fenwick tree of player counts per bucket, 1-based. */
+    private static final int[] TREE = new int[BUCKETS + 1];
+    /** The players in each bucket, ordered by UUID for a stable listing. */
+    @SuppressWarnings("unchecked")
+    private static final OrderStatisticSet<UUID>[] MEMBERS = new OrderStatisticSet[BUCKETS];
+    /** The bucket each player is currently in. */
+    private static final Map<UUID, Integer> BUCKET_OF = new HashMap<>();
+
+    /**
+     * A single leaderboard row.
+     *
+     * @param rank   The player's rank, players with equal health share a rank.
+     * @param uuid   The UUID of the player.
+     * @param health The player's max health in health points.
+     */
+    public record Entry(int rank, UUID uuid, double health) {}
+
+    /**
+     * Rebuilds the leaderboard from the heart ledger.
+     */
+    public static synchronized void initialize() {
+        Arrays.fill(TREE, 0);
+        Arrays.fill(MEMBERS, null);
+        BUCKET_OF.clear();
+        HeartLedger.getRecords().forEach((uuid, record) -> update(uuid, record.health()));
+    }
+
+    /**
+     * Moves a player to the bucket for their new max health.
+     *
+     * @param uuid   The UUID of the player
+     * @param health The player's new max health
+     */
+    public static synchronized void update(@NotNull UUID uuid, double health) {
+        int bucket = toBucket(health);
+        Integer previous = BUCKET_OF.put(uuid, bucket);
+        if (previous != null) {
+            if (previous == bucket) {
+                return;
+            }
+            MEMBERS[previous].remove(uuid);
+            add(previous, -1);
+        }
+        if (MEMBERS[bucket] == null) {
+            MEMBERS[bucket] = new OrderStatisticSet<>();
+        }
+        MEMBERS[bucket].add(uuid);
+        add(bucket, 1);
+    }
+
+    /**
+     * Gets the number of ranked players.
+     *
+     * @return The number of players on the leaderboard
+     */
+    public static synchronized int size() {
+        return BUCKET_OF.size();
+    }
+
+    /**
+     * Gets a player's rank in O(log n).
+     *
+     * @param uuid The UUID of the player
+     * @return The player's rank starting at 1, or -1 if the player is not ranked
+     */
+    public static synchronized int getRank(@NotNull UUID uuid) {
+        Integer bucket = BUCKET_OF.get(uuid);
+        if (bucket == null) {
+            return -1;
+        }
+        return 1 + BUCKET_OF.size() - prefix(bucket);
+    }
+
+    /**
+     * Gets a page of the leaderboard, highest health first.
+     *
+     * @param page     The page number starting at 1
+     * @param pageSize The number of rows per page
+     * @return The rows on the page, empty if the page is out of range
+     */
+    @NotNull
+    public static synchronized List<Entry> getPage(int page, int pageSize) {
+        List<Entry> entries = new ArrayList<>(pageSize);
+        int total = BUCKET_OF.size();
+        // Computed as a long, a large page number would overflow to a negative start
+        long firstRow = (long) (page - 1) * pageSize;
+        if (page < 1 || firstRow >= total) {
+            return entries;
+        }
+        int start = (int) firstRow;
+
+        // Locate the bucket holding the first row, counting from the top
+        int bucket = findAscending(total - 1 - start);
+        int above = total - prefix(bucket);
+        int skip = start - above;
+
+        while (entries.size() < pageSize) {
+            int rank = 1 + total - prefix(bucket);
+            for (UUID uuid : MEMBERS[bucket].range(skip, pageSize - entries.size())) {
+                entries.add(new Entry(rank, uuid, HeartLedger.getHealth(uuid)));
+            }
+            skip = 0;
+
+            // Jump to the next non-empty bucket below this one
+            int below = bucket > 0 ? prefix(bucket - 1) : 0;
+            if (below == 0) {
+                break;
+            }
+            bucket = findAscending(below - 1);
+        }
+        return entries;
+    }
+
+    private static int toBucket(double health) {
+        return (int) Math.max(0, Math.min(BUCKETS - 1, Math.round(health)));
+    }
+
+    /** Adds {@code delta} to the count of a bucket. */
+    private static void add(int bucket, int delta) {
+        for (int i = bucket + 1; i <= BUCKETS; i += i & -i) {
+            TREE[i] += delta;
+        }
+    }
+
+    /** Counts the players in buckets {@code 0..bucket}. */
+    private static int prefix(int bucket) {
+        int sum = 0;
+        for (int i = bucket + 1; i > 0; i -= i & -i) {
+            sum += TREE[i];
+        }
+        return sum;
+    }
+
+    /** Finds the bucket holding the {@code k}-th player in ascending order, 0-based. */
+    private static int findAscending(int k) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(BUCKETS); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= BUCKETS && TREE[next] <= k) {
+                position = next;
+                k -= TREE[next];
+            }
+        }
+        return position; // Fenwick index position + 1 is bucket position
+    }
+}
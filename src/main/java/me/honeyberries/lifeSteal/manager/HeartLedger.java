@@ -0,0 +1,340 @@
+package me.honeyberries.lifeSteal.manager;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.logging.Level;
+
+/**
+ * A persistent per-UUID record of every player's max health.
+ * <p>
+ * The ledger mirrors every max health change made through {@link LifeStealUtil}, so
+ * the hearts of offline players can be read without loading their player data.
+ * Changes made while a player is offline are stored as pending and applied on their
+ * next join. Each entry also keeps the player's health limits as last resolved from their
+ * permission tiers, so offline changes respect the same caps and floors as online ones.
+ * Entries are held in memory and only dirty entries are written back,
+ * in batches, by a periodic asynchronous flush. Every change is forwarded to the
+ * {@link HeartLeaderboard}.
+ * <p>
+ * The ledger also keeps a running total of the max health of every player, for the
+ * {@link HeartEconomy}, and the heart epoch. A global reset only bumps the epoch; every
+ * player whose stamp is older has their hearts reset on their next join.
+ */
+public class HeartLedger {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final String PLAYERS_KEY = "players";
+    private static final String EPOCH_KEY = "epoch";
+
+    private static File dataFile;
+    private static YamlConfiguration dataConfig;
+    private static ScheduledTask flushTask;
+    private static volatile long epoch;
+
+    /**
+     * A single ledger entry.
+     *
+     * @param health  The player's max health in health points.
+     * @param pending Whether the value still has to be applied to the player on their next join.
+     * @param limits  The player's health limits as last resolved from their permission tiers, or null if they never were.
+     */
+    public record HeartRecord(double health, boolean pending, @Nullable HealthLimits limits) {}
+
+    /**
+     * The health limits of a single player, see {@link PermissionTierCache.ResolvedTiers}.
+     *
+     * @param maxHealthLimit The maximum health in health points, or 0 or less if disabled.
+     * @param minHealthLimit The minimum health in health points.
+     */
+    public record HealthLimits(double maxHealthLimit, double minHealthLimit) {}
+
+    private static final Map<UUID, HeartRecord> RECORDS = new ConcurrentHashMap<>();
+    private static final Set<UUID> DIRTY = ConcurrentHashMap.newKeySet();
+    private static final DoubleAdder TOTAL_HEALTH = new DoubleAdder();
+
+    /**
+     * Loads the ledger from disk and starts the periodic flush.
+     */
+    public static void initialize() {
+        dataFile = new File(plugin.getDataFolder(), "heart_ledger.yml");
+        dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+        RECORDS.clear();
+        DIRTY.clear();
+        TOTAL_HEALTH.reset();
+        epoch = dataConfig.getLong(EPOCH_KEY);
+
+        ConfigurationSection players = dataConfig.getConfigurationSection(PLAYERS_KEY);
+        if (players != null) {
+            for (String key : players.getKeys(false)) {
+                try {
+                    UUID uuid = UUID.fromString(key);
+                    HealthLimits limits = players.contains(key + ".max-health-limit")
+                        ? new HealthLimits(players.getDouble(key + ".max-health-limit"), players.getDouble(key + ".min-health-limit"))
+                        : null;
+                    RECORDS.put(uuid, new HeartRecord(players.getDouble(key + ".health"), players.getBoolean(key + ".pending"), limits));
+                    TOTAL_HEALTH.add(players.getDouble(key + ".health"));
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Invalid UUID in heart_ledger.yml: " + key);
+                }
+            }
+        }
+
+        flushTask = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> flush(),
+            LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes all remaining changes.
+     */
+    public static void shutdown() {
+        if (flushTask != null && !flushTask.isCancelled()) {
+            flushTask.cancel();
+        }
+        flush();
+    }
+
+    /**
+     * Records the current max health of an online player.
+     * Called for every change made through {@link LifeStealUtil#setMaxHealth(Player, double)}.
+     *
+     * @param uuid   The UUID of the player
+     * @param health The player's new max health
+     */
+    public static void record(@NotNull UUID uuid, double health) {
+        put(uuid, health, false);
+    }
+
+    /**
+     * Sets the max health of an offline player. The value is applied on their next join.
+     *
+     * @param uuid   The UUID of the player
+     * @param health The new max health
+     * @return The previous max health
+     */
+    public static double setOffline(@NotNull UUID uuid, double health) {
+        double oldHealth = getHealth(uuid);
+        put(uuid, health, true);
+        return oldHealth;
+    }
+
+    /**
+     * Adjusts the max health of an offline player. The result is applied on their next join.
+     * Players without an entry are skipped, their real max health is not known to adjust.
+     *
+     * @param uuid  The UUID of the player
+     * @param delta The amount to adjust by
+     * @return true if the player had an entry and was adjusted
+     */
+    public static boolean adjustOffline(@NotNull UUID uuid, double delta) {
+        HeartRecord updated = RECORDS.computeIfPresent(uuid, (key, current) -> {
+            TOTAL_HEALTH.add(delta);
+            return new HeartRecord(current.health() + delta, true, current.limits());
+        });
+        if (updated == null) {
+            return false;
+        }
+        DIRTY.add(uuid);
+        HeartLeaderboard.update(uuid, updated.health());
+        return true;
+    }
+
+    /**
+     * Resets every player's hearts by bumping the epoch. Players are reset when they next
+     * join, see {@link LifeStealUtil#syncHeartEpoch(Player)}. Entries are reset to the
+     * default and pending offline changes are dropped, so offline reads agree right away.
+     */
+    public static synchronized void resetAll() {
+        epoch++;
+        dataConfig.set(EPOCH_KEY, epoch);
+        double before = TOTAL_HEALTH.sum();
+        for (UUID uuid : RECORDS.keySet()) {
+            put(uuid, LifeStealConstants.DEFAULT_PLAYER_MAX_HEALTH, false);
+        }
+        HeartEconomy.record(HeartEconomy.Flow.ADMIN, TOTAL_HEALTH.sum() - before);
+        // Persist the epoch right away, a reset must survive a crash
+        writeDirty();
+        save();
+    }
+
+    /**
+     * Gets the current heart epoch. Players stamped with an older epoch are reset on join.
+     *
+     * @return The current epoch
+     */
+    public static long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Gets the max health of a player from the ledger, online or offline.
+     * Players the ledger has never seen are reported with the vanilla default.
+     *
+     * @param uuid The UUID of the player
+     * @return The player's max health
+     */
+    public static double getHealth(@NotNull UUID uuid) {
+        HeartRecord record = RECORDS.get(uuid);
+        return record != null ? record.health() : LifeStealConstants.DEFAULT_PLAYER_MAX_HEALTH;
+    }
+
+    /**
+     * Stores a player's resolved health limits with their entry, for changes made while they are offline.
+     * Players without an entry are skipped, joining players get one from {@link #applyOnJoin(Player)}.
+     *
+     * @param uuid  The UUID of the player
+     * @param tiers The player's resolved permission tiers
+     */
+    public static void recordLimits(@NotNull UUID uuid, @NotNull PermissionTierCache.ResolvedTiers tiers) {
+        HealthLimits limits = new HealthLimits(tiers.maxHealthLimit(), tiers.minHealthLimit());
+        HeartRecord current = RECORDS.get(uuid);
+        if (current == null || limits.equals(current.limits())) {
+            return;
+        }
+        RECORDS.computeIfPresent(uuid, (key, record) -> new HeartRecord(record.health(), record.pending(), limits));
+        DIRTY.add(uuid);
+    }
+
+    /**
+     * Gets the maximum health limit of a player who may be offline, as last resolved from their
+     * permission tiers. Players whose tiers were never resolved get the global limit.
+     *
+     * @param uuid The UUID of the player
+     * @return The maximum health limit, or 0 or less if disabled
+     */
+    public static double getMaxHealthLimit(@NotNull UUID uuid) {
+        HeartRecord record = RECORDS.get(uuid);
+        return record != null && record.limits() != null ? record.limits().maxHealthLimit() : LifeStealSettings.getMaxHealthLimit();
+    }
+
+    /**
+     * Gets the minimum health limit of a player who may be offline, as last resolved from their
+     * permission tiers. Players whose tiers were never resolved get the global limit.
+     *
+     * @param uuid The UUID of the player
+     * @return The minimum health limit
+     */
+    public static double getMinHealthLimit(@NotNull UUID uuid) {
+        HeartRecord record = RECORDS.get(uuid);
+        return record != null && record.limits() != null ? record.limits().minHealthLimit() : LifeStealSettings.getMinHealthLimit();
+    }
+
+    /**
+     * Gets the combined max health of every player the ledger has seen, online or offline.
+     * Kept up to date with every change instead of being summed on demand.
+     *
+     * @return The total max health in health points
+     */
+    public static double getTotalHealth() {
+        return TOTAL_HEALTH.sum();
+    }
+
+    /**
+     * Gets the ledger entry of a player.
+     *
+     * @param uuid The UUID of the player
+     * @return The entry, or null if the player has never been recorded
+     */
+    @Nullable
+    public static HeartRecord getRecord(@NotNull UUID uuid) {
+        return RECORDS.get(uuid);
+    }
+
+    /**
+     * Gets a read-only view of every ledger entry.
+     *
+     * @return The ledger entries keyed by UUID
+     */
+    @NotNull
+    public static Map<UUID, HeartRecord> getRecords() {
+        return Collections.unmodifiableMap(RECORDS);
+    }
+
+    /**
+     * Synchronizes a joining player with the ledger.
+     * Global resets since the player's last visit are applied first, then pending offline changes, otherwise the player's current max health is recorded.
+     * Must run on the player's own scheduler.
+     *
+     * @param player The joining player
+     */
+    public static void applyOnJoin(@NotNull Player player) {
+        // Read first, syncing the epoch records the player's current health
+        HeartRecord record = RECORDS.get(player.getUniqueId());
+        if (LifeStealUtil.syncHeartEpoch(player)) {
+            plugin.getLogger().info("Reset the hearts of " + player.getName() + " after a global reset.");
+        }
+        if (record != null && record.pending()) {
+            LifeStealUtil.setMaxHealth(player, record.health());
+            plugin.getLogger().info("Applied pending max health of " + LifeStealUtil.formatHealth(record.health()) + " to " + player.getName() + ".");
+        } else {
+            record(player.getUniqueId(), LifeStealUtil.getMaxHealth(player));
+        }
+        recordLimits(player.getUniqueId(), PermissionTierCache.get(player));
+    }
+
+    private static void put(UUID uuid, double health, boolean pending) {
+        HeartRecord previous = RECORDS.get(uuid);
+        HeartRecord record = new HeartRecord(health, pending, previous != null ? previous.limits() : null);
+        previous = RECORDS.put(uuid, record);
+        TOTAL_HEALTH.add(record.health() - (previous != null ? previous.health() : 0));
+        if (!record.equals(previous)) {
+            DIRTY.add(uuid);
+            HeartLeaderboard.update(uuid, record.health());
+        }
+    }
+
+    /**
+     * Writes all dirty entries to disk in a single batch.
+     */
+    public static synchronized void flush() {
+        if (DIRTY.isEmpty()) {
+            return;
+        }
+        writeDirty();
+        save();
+    }
+
+    private static void writeDirty() {
+        for (UUID uuid : DIRTY) {
+            DIRTY.remove(uuid);
+            HeartRecord record = RECORDS.get(uuid);
+            String path = PLAYERS_KEY + "." + uuid;
+            if (record == null) {
+                dataConfig.set(path, null);
+            } else {
+                dataConfig.set(path + ".health", record.health());
+                dataConfig.set(path + ".pending", record.pending());
+                if (record.limits() != null) {
+                    dataConfig.set(path + ".max-health-limit", record.limits().maxHealthLimit());
+                    dataConfig.set(path + ".min-health-limit", record.limits().minHealthLimit());
+                }
+            }
+        }
+    }
+
+    private static void save() {
+        try {
+            dataConfig.save(dataFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save heart_ledger.yml", e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package me.honeyberries.lifeSteal.manager;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import me.honeyberries.lifeSteal.util.TimingWheel;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Time-based heart mechanics: kill hearts that decay, newbie protection and heart item cooldowns.
+ * <p>
+ * Every timer lives in one {@link TimingWheel} advanced once a second by a single async
+ * task, instead of a scheduler task per player per timer. Timers that fire in the same
+ * second are grouped by player and handed to each player's own scheduler as one batch;
+ * timers of offline players are applied through the {@link HeartLedger}. Pending timers
+ * are saved by a periodic asynchronous flush whenever timers were added or fired, and on
+ * shutdown, so a crash loses at most one flush interval of them. They are restored on startup.
+ */
+public class HeartTimers {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final String TIMERS_KEY = "timers";
+
+    /**
+     * What a timer does when it fires.
+     */
+    public enum Kind {
+        /** Takes back hearts gained from a kill. */
+        DECAY,
+        /** Ends newbie protection. */
+        PROTECTION,
+        /** Ends a heart item cooldown. */
+        COOLDOWN
+    }
+
+    /**
+     * A single timer.
+     *
+     * @param owner     The player the timer belongs to.
+     * @param kind      What the timer does.
+     * @param amount    The health points to take back for DECAY timers, otherwise 0.
+     * @param expiresAt When the timer fires in epoch milliseconds.
+     */
+    public record HeartTimer(UUID owner, Kind kind, double amount, long expiresAt) {}
+
+    private static final TimingWheel<HeartTimer> WHEEL = new TimingWheel<>(nowSeconds());
+    private static final Map<UUID, TimingWheel.Timer<HeartTimer>> PROTECTIONS = new ConcurrentHashMap<>();
+    private static final Map<UUID, TimingWheel.Timer<HeartTimer>> COOLDOWNS = new ConcurrentHashMap<>();
+
+    private static final AtomicBoolean DIRTY = new AtomicBoolean();
+
+    private static File dataFile;
+    private static ScheduledTask tickTask;
+    private static ScheduledTask flushTask;
+
+    /**
+     * Restores the saved timers and starts advancing the wheel.
+     */
+    public static void initialize() {
+        dataFile = new File(plugin.getDataFolder(), "heart_timers.yml");
+        YamlConfiguration dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+        for (Map<?, ?> saved : dataConfig.getMapList(TIMERS_KEY)) {
+            try {
+                HeartTimer timer = new HeartTimer(
+                    UUID.fromString(String.valueOf(saved.get("owner"))),
+                    Kind.valueOf(String.valueOf(saved.get("kind"))),
+                    ((Number) saved.get("amount")).doubleValue(),
+                    ((Number) saved.get("expires-at")).longValue()
+                );
+                add(timer);
+            } catch (IllegalArgumentException | ClassCastException | NullPointerException e) {
+                plugin.getLogger().warning("Invalid timer in heart_timers.yml: " + saved);
+            }
+        }
+
+        // Restoring the saved timers does not change them
+        DIRTY.set(false);
+
+        tickTask = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> tick(),
+            1L, 1L, TimeUnit.SECONDS);
+        flushTask = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> flush(),
+            LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the wheel and saves every pending timer.
+     */
+    public static void shutdown() {
+        if (tickTask != null && !tickTask.isCancelled()) {
+            tickTask.cancel();
+        }
+        if (flushTask != null && !flushTask.isCancelled()) {
+            flushTask.cancel();
+        }
+        DIRTY.set(true);
+        flush();
+    }
+
+    /**
+     * Saves every pending timer if any were added or fired since the last save.
+     */
+    public static synchronized void flush() {
+        if (dataFile == null || !DIRTY.getAndSet(false)) {
+            return;
+        }
+
+        List<Map<String, Object>> timers = new ArrayList<>();
+        for (HeartTimer timer : WHEEL.pending()) {
+            Map<String, Object> saved = new LinkedHashMap<>();
+            saved.put("owner", timer.owner().toString());
+            saved.put("kind", timer.kind().name());
+            saved.put("amount", timer.amount());
+            saved.put("expires-at", timer.expiresAt());
+            timers.add(saved);
+        }
+        YamlConfiguration dataConfig = new YamlConfiguration();
+        dataConfig.set(TIMERS_KEY, timers);
+        try {
+            dataConfig.save(dataFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save heart_timers.yml", e);
+        }
+    }
+
+    /**
+     * Schedules hearts gained from a kill to be taken back, if kill hearts decay.
+     *
+     * @param killer The player who gained the hearts
+     * @param amount The health points gained
+     */
+    public static void scheduleDecay(@NotNull UUID killer, double amount) {
+        long decay = LifeStealSettings.getKillHeartDecayMillis();
+        if (decay > 0 && amount > 0) {
+            add(new HeartTimer(killer, Kind.DECAY, amount, System.currentTimeMillis() + decay));
+        }
+    }
+
+    /**
+     * Starts newbie protection for a player, if it is enabled.
+     *
+     * @param uuid The UUID of the new player
+     * @return true if protection was started
+     */
+    public static boolean startProtection(@NotNull UUID uuid) {
+        long protection = LifeStealSettings.getNewbieProtectionMillis();
+        if (protection <= 0) {
+            return false;
+        }
+        add(new HeartTimer(uuid, Kind.PROTECTION, 0, System.currentTimeMillis() + protection));
+        return true;
+    }
+
+    /**
+     * Checks whether a player is still under newbie protection.
+     *
+     * @param uuid The UUID of the player
+     * @return true if the player cannot lose hearts
+     */
+    public static boolean isProtected(@NotNull UUID uuid) {
+        return PROTECTIONS.containsKey(uuid);
+    }
+
+    /**
+     * Starts the heart item cooldown for a player, if there is one.
+     *
+     * @param uuid The UUID of the player
+     */
+    public static void startCooldown(@NotNull UUID uuid) {
+        long cooldown = LifeStealSettings.getHeartUseCooldownMillis();
+        if (cooldown > 0) {
+            add(new HeartTimer(uuid, Kind.COOLDOWN, 0, System.currentTimeMillis() + cooldown));
+        }
+    }
+
+    /**
+     * Gets how long a player has to wait before using another heart item.
+     *
+     * @param uuid The UUID of the player
+     * @return The remaining seconds, rounded up, or 0 if there is no cooldown
+     */
+    public static long getCooldownSeconds(@NotNull UUID uuid) {
+        TimingWheel.Timer<HeartTimer> timer = COOLDOWNS.get(uuid);
+        if (timer == null) {
+            return 0;
+        }
+        long remaining = timer.value().expiresAt() - System.currentTimeMillis();
+        return remaining > 0 ? TimeUnit.MILLISECONDS.toSeconds(remaining + 999) : 0;
+    }
+
+    private static void add(HeartTimer timer) {
+        TimingWheel.Timer<HeartTimer> scheduled = WHEEL.schedule(timer, toTick(timer.expiresAt()));
+        DIRTY.set(true);
+        // A new protection or cooldown replaces the old one, which is cancelled in O(1)
+        TimingWheel.Timer<HeartTimer> replaced = null;
+        if (timer.kind() == Kind.PROTECTION) {
+            replaced = PROTECTIONS.put(timer.owner(), scheduled);
+        } else if (timer.kind() == Kind.COOLDOWN) {
+            replaced = COOLDOWNS.put(timer.owner(), scheduled);
+        }
+        if (replaced != null) {
+            WHEEL.cancel(replaced);
+        }
+    }
+
+    private static void tick() {
+        List<HeartTimer> fired = WHEEL.advance(nowSeconds());
+        if (fired.isEmpty()) {
+            return;
+        }
+        DIRTY.set(true);
+
+        Map<UUID, List<HeartTimer>> batches = new HashMap<>();
+        for (HeartTimer timer : fired) {
+            if (timer.kind() == Kind.PROTECTION) {
+                PROTECTIONS.computeIfPresent(timer.owner(), (uuid, current) -> current.value() == timer ? null : current);
+            } else if (timer.kind() == Kind.COOLDOWN) {
+                COOLDOWNS.computeIfPresent(timer.owner(), (uuid, current) -> current.value() == timer ? null : current);
+                continue;
+            }
+            batches.computeIfAbsent(timer.owner(), uuid -> new ArrayList<>()).add(timer);
+        }
+
+        for (Map.Entry<UUID, List<HeartTimer>> batch : batches.entrySet()) {
+            Player player = Bukkit.getPlayer(batch.getKey());
+            if (player == null) {
+                batch.getValue().forEach(HeartTimers::fireOffline);
+                continue;
+            }
+            player.getScheduler().run(plugin, task -> batch.getValue().forEach(timer -> fireOnline(player, timer)),
+                () -> batch.getValue().forEach(HeartTimers::fireOffline));
+        }
+    }
+
+    private static void fireOnline(Player player, HeartTimer timer) {
+        if (timer.kind() == Kind.PROTECTION) {
+            player.sendMessage(Messages.protectionEnded());
+            return;
+        }
+        // Decay never takes a player below their minimum health
+        double current = LifeStealUtil.getMaxHealth(player);
+        double decayed = Math.min(timer.amount(), Math.max(0, current - PermissionTierCache.getMinHealthLimit(player)));
+        if (decayed <= 0) {
+            return;
+        }
+        LifeStealUtil.setMaxHealth(player, current - decayed);
+        HeartEconomy.record(HeartEconomy.Flow.DECAYED, decayed);
+        double hearts = decayed / LifeStealConstants.HEALTH_POINTS_PER_HEART;
+        player.sendMessage(Messages.heartsDecayed(LifeStealUtil.formatHealth(hearts), hearts == 1.0 ? "heart" : "hearts"));
+    }
+
+    private static void fireOffline(HeartTimer timer) {
+        // Decay is relative, so players the ledger has no entry for are skipped rather than decayed from a guess
+        if (timer.kind() != Kind.DECAY || HeartLedger.getRecord(timer.owner()) == null) {
+            return;
+        }
+        double current = HeartLedger.getHealth(timer.owner());
+        double decayed = Math.min(timer.amount(), Math.max(0, current - HeartLedger.getMinHealthLimit(timer.owner())));
+        if (decayed > 0) {
+            HeartLedger.setOffline(timer.owner(), current - decayed);
+            HeartEconomy.record(HeartEconomy.Flow.DECAYED, decayed);
+        }
+    }
+
+    private static long toTick(long epochMillis) {
+        return TimeUnit.MILLISECONDS.toSeconds(epochMillis + 999);
+    }
+
+    private static long nowSeconds() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+    }
+}
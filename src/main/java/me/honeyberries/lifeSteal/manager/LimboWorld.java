@@ -0,0 +1,185 @@
+package me.honeyberries.lifeSteal.manager;
+
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import org.bukkit.Bukkit;
+import org.bukkit.Difficulty;
+import org.bukkit.GameRule;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.entity.Player;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * An empty void world where eliminated spectators wait to be revived.
+ * <p>
+ * The world generates no terrain, spawns no mobs and runs no random ticks, so a spectator
+ * inside it costs almost nothing, while in a main world they would load and tick chunks
+ * wherever they fly. The location a player is moved from is stored in their persistent
+ * data, so it survives restarts and revivals that happen while they are offline.
+ */
+public class LimboWorld {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final NamespacedKey RETURN_KEY = new NamespacedKey(plugin, LifeStealConstants.LIMBO_RETURN_KEY);
+
+    private static volatile World world;
+
+    /**
+     * Loads or creates the limbo world if it is enabled. Must run on the main thread.
+     */
+    public static void initialize() {
+        if (!LifeStealSettings.isLimboWorldEnabled() || world != null) {
+            return;
+        }
+        if (!"SPECTATOR".equalsIgnoreCase(LifeStealSettings.getEliminationMode())) {
+            return;
+        }
+
+        try {
+            World created = new WorldCreator(LifeStealSettings.getLimboWorldName())
+                .environment(World.Environment.NORMAL)
+                .generator(new VoidGenerator())
+                .generateStructures(false)
+                .createWorld();
+            if (created == null) {
+                plugin.getLogger().warning("Could not create the limbo world, eliminated players stay in their world.");
+                return;
+            }
+            configure(created);
+            world = created;
+            plugin.getLogger().info("Loaded limbo world '" + created.getName() + "'.");
+        } catch (UnsupportedOperationException e) {
+            // Folia cannot create worlds at runtime
+            plugin.getLogger().log(Level.WARNING, "This server cannot create the limbo world, eliminated players stay in their world.", e);
+        }
+    }
+
+    private static void configure(World limbo) {
+        limbo.setDifficulty(Difficulty.PEACEFUL);
+        limbo.setSpawnFlags(false, false);
+        limbo.setGameRule(GameRule.DO_MOB_SPAWNING, false);
+        limbo.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, false);
+        limbo.setGameRule(GameRule.DO_WEATHER_CYCLE, false);
+        limbo.setGameRule(GameRule.RANDOM_TICK_SPEED, 0);
+        limbo.setGameRule(GameRule.SPAWN_CHUNK_RADIUS, 0);
+        limbo.setGameRule(GameRule.ANNOUNCE_ADVANCEMENTS, false);
+    }
+
+    /**
+     * Checks whether eliminated players are currently moved to limbo.
+     *
+     * @return true if the limbo world is loaded
+     */
+    public static boolean isEnabled() {
+        return world != null && LifeStealSettings.isLimboWorldEnabled()
+            && "SPECTATOR".equalsIgnoreCase(LifeStealSettings.getEliminationMode());
+    }
+
+    /**
+     * Checks whether a player is in the limbo world.
+     *
+     * @param player The player to check
+     * @return true if the player is in limbo
+     */
+    public static boolean isInLimbo(@NotNull Player player) {
+        World limbo = world;
+        return limbo != null && player.getWorld().equals(limbo);
+    }
+
+    /**
+     * Gets the location eliminated players are placed at.
+     *
+     * @return The limbo spawn, or null if the limbo world is not enabled
+     */
+    @Nullable
+    public static Location getSpawn() {
+        return isEnabled() ? world.getSpawnLocation() : null;
+    }
+
+    /**
+     * Remembers where a player is and moves them to limbo. Players who are dead are only
+     * remembered; they are placed in limbo when they respawn.
+     * Must run on the player's own scheduler.
+     *
+     * @param player The eliminated player
+     */
+    public static void send(@NotNull Player player) {
+        if (!isEnabled() || isInLimbo(player)) {
+            return;
+        }
+        player.getPersistentDataContainer().set(RETURN_KEY, PersistentDataType.STRING, serialize(player.getLocation()));
+        if (!player.isDead()) {
+            player.teleportAsync(world.getSpawnLocation());
+        }
+    }
+
+    /**
+     * Moves a player out of limbo, back to where they were when they were eliminated.
+     * Falls back to their respawn location, or the main world's spawn, if that world is gone.
+     * Must run on the player's own scheduler.
+     *
+     * @param player The revived player
+     * @return true if the player had a return location or was in limbo
+     */
+    public static boolean release(@NotNull Player player) {
+        PersistentDataContainer container = player.getPersistentDataContainer();
+        String saved = container.get(RETURN_KEY, PersistentDataType.STRING);
+        container.remove(RETURN_KEY);
+        if (!isInLimbo(player)) {
+            return saved != null;
+        }
+
+        Location destination = saved != null ? deserialize(saved) : null;
+        if (destination == null) {
+            destination = player.getRespawnLocation();
+        }
+        if (destination == null) {
+            destination = Bukkit.getWorlds().get(0).getSpawnLocation();
+        }
+        player.teleportAsync(destination);
+        return true;
+    }
+
+    private static String serialize(Location location) {
+        return location.getWorld().getUID() + ";" + location.getX() + ";" + location.getY() + ";" + location.getZ()
+            + ";" + location.getYaw() + ";" + location.getPitch();
+    }
+
+    @Nullable
+    private static Location deserialize(String value) {
+        try {
+            String[] parts = value.split(";");
+            World target = Bukkit.getWorld(UUID.fromString(parts[0]));
+            if (target == null) {
+                return null;
+            }
+            return new Location(target, Double.parseDouble(parts[1]), Double.parseDouble(parts[2]), Double.parseDouble(parts[3]),
+                Float.parseFloat(parts[4]), Float.parseFloat(parts[5]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            plugin.getLogger().warning("Invalid saved limbo return location: " + value);
+            return null;
+        }
+    }
+
+    /**
+     * Generates nothing, every chunk is empty.
+     */
+    private static final class VoidGenerator extends ChunkGenerator {
+        @Override
+        public Location getFixedSpawnLocation(@NotNull World world, @NotNull Random random) {
+            return new Location(world, 0.5, 64, 0.5);
+        }
+    }
+}
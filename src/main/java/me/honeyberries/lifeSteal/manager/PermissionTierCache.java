@@ -0,0 +1,228 @@
+package me.honeyberries.lifeSteal.manager;
+
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves and caches permission-based health tiers for online players.
+ * <p>
+ * Permissions such as {@code lifesteal.maxhealth.60} are resolved once per player
+ * by walking their effective permissions a single time. The result is cached until
+ * the player rejoins, their permissions are recalculated, or the plugin is reloaded,
+ * so the death and heart-use paths never call {@link Player#hasPermission(String)}.
+ * <p>
+ * Tiers are read from {@link Player#getEffectivePermissions()}, which Bukkit offers no
+ * change event for. The command tree resend stands in for a permission recalculation
+ * hook, see {@link me.honeyberries.lifeSteal.listener.PermissionTierListener}; permission
+ * plugins that change a player's permissions without resending it are picked up on the
+ * player's next join or world change, or by {@code /lifesteal reload} for everyone.
+ * <p>
+ * Every refresh also stores the player's health limits in the {@link HeartLedger}, so
+ * changes made while they are offline use their own tiers rather than the global limits.
+ */
+public class PermissionTierCache {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+    // --- Permission nodes ---
+    public static final String BYPASS_PERMISSION = "lifesteal.debug.bypass";
+    private static final String PERMISSION_ROOT = "lifesteal.";
+    private static final String MAX_HEALTH_PREFIX = "lifesteal.maxhealth.";
+    private static final String MIN_HEALTH_PREFIX = "lifesteal.minhealth.";
+    private static final String WITHDRAW_LIMIT_PREFIX = "lifesteal.withdrawlimit.";
+
+    /** Resolved tiers keyed by player UUID. */
+    private static final Map<UUID, ResolvedTiers> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The limits that apply to a single player after resolving their permission tiers.
+     *
+     * @param maxHealthLimit The maximum health in health points, or 0 or less if disabled.
+     * @param minHealthLimit The minimum health in health points.
+     * @param withdrawLimit  The maximum hearts per withdrawal, or 0 or less if unlimited.
+     * @param bypass         Whether the player is exempt from LifeSteal mechanics.
+     */
+    public record ResolvedTiers(double maxHealthLimit, double minHealthLimit, int withdrawLimit, boolean bypass) {}
+
+    /**
+     * Returns the resolved tiers for a player, resolving them if they are not cached yet.
+     *
+     * @param player The player
+     * @return The player's resolved tiers
+     */
+    @NotNull
+    public static ResolvedTiers get(@NotNull Player player) {
+        return CACHE.computeIfAbsent(player.getUniqueId(), uuid -> resolve(player));
+    }
+
+    /**
+     * Re-resolves and caches the tiers for a player.
+     * Should be called on the player's own scheduler.
+     *
+     * @param player The player to refresh
+     */
+    public static void refresh(@NotNull Player player) {
+        ResolvedTiers tiers = resolve(player);
+        CACHE.put(player.getUniqueId(), tiers);
+        HeartLedger.recordLimits(player.getUniqueId(), tiers);
+    }
+
+    /**
+     * Drops the cached tiers of a player who leaves, keeping their health limits in the
+     * {@link HeartLedger} for changes made while they are offline.
+     *
+     * @param player The leaving player
+     */
+    public static void invalidate(@NotNull Player player) {
+        ResolvedTiers tiers = CACHE.remove(player.getUniqueId());
+        if (tiers != null) {
+            HeartLedger.recordLimits(player.getUniqueId(), tiers);
+        }
+    }
+
+    /**
+     * Clears the cache and re-resolves every online player on their own scheduler.
+     * Used after a configuration reload, since the global defaults may have changed.
+     */
+    public static void refreshAll() {
+        CACHE.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            player.getScheduler().run(plugin, task -> refresh(player), null);
+        }
+    }
+
+    /**
+     * Returns the maximum health limit for a player.
+     *
+     * @param player The player
+     * @return The maximum health limit, or 0 or less if disabled.
+     */
+    public static double getMaxHealthLimit(@NotNull Player player) {
+        return get(player).maxHealthLimit();
+    }
+
+    /**
+     * Checks if a maximum health limit applies to a player.
+     *
+     * @param player The player
+     * @return `true` if the player has a maximum health limit, `false` otherwise.
+     */
+    public static boolean isMaxHealthLimitEnabled(@NotNull Player player) {
+        return getMaxHealthLimit(player) > 0;
+    }
+
+    /**
+     * Returns the minimum health limit for a player.
+     *
+     * @param player The player
+     * @return The minimum health limit.
+     */
+    public static double getMinHealthLimit(@NotNull Player player) {
+        return get(player).minHealthLimit();
+    }
+
+    /**
+     * Checks if a minimum health limit applies to a player.
+     *
+     * @param player The player
+     * @return `true` if the player has a minimum health limit, `false` otherwise.
+     */
+    public static boolean isMinHealthLimitEnabled(@NotNull Player player) {
+        return getMinHealthLimit(player) > 0;
+    }
+
+    /**
+     * Returns the maximum number of hearts a player may withdraw at once.
+     *
+     * @param player The player
+     * @return The withdraw limit in hearts, or 0 or less if unlimited.
+     */
+    public static int getWithdrawLimit(@NotNull Player player) {
+        return get(player).withdrawLimit();
+    }
+
+    /**
+     * Checks if a player is exempt from LifeSteal mechanics.
+     *
+     * @param player The player
+     * @return `true` if the player has the bypass permission, `false` otherwise.
+     */
+    public static boolean isBypassed(@NotNull Player player) {
+        return get(player).bypass();
+    }
+
+    /**
+     * Walks the player's effective permissions once and builds their tiers.
+     * The highest granted value of each tier wins; missing tiers fall back to the global settings.
+     */
+    private static ResolvedTiers resolve(Player player) {
+        double maxHealth = LifeStealSettings.getMaxHealthLimit();
+        double minHealth = LifeStealSettings.getMinHealthLimit();
+        int withdrawLimit = LifeStealSettings.getMaxWithdrawHearts();
+        boolean bypass = false;
+
+        double tierMaxHealth = -1;
+        double tierMinHealth = -1;
+        int tierWithdrawLimit = -1;
+
+        boolean tiersEnabled = LifeStealSettings.isPermissionTiersEnabled();
+        for (PermissionAttachmentInfo info : player.getEffectivePermissions()) {
+            if (!info.getValue()) {
+                continue;
+            }
+            String permission = info.getPermission();
+            if (!permission.startsWith(PERMISSION_ROOT)) {
+                continue;
+            }
+            if (permission.equals(BYPASS_PERMISSION)) {
+                bypass = true;
+            } else if (!tiersEnabled) {
+                continue;
+            } else if (permission.startsWith(MAX_HEALTH_PREFIX)) {
+                tierMaxHealth = Math.max(tierMaxHealth, parseTier(permission, MAX_HEALTH_PREFIX));
+            } else if (permission.startsWith(MIN_HEALTH_PREFIX)) {
+                tierMinHealth = Math.max(tierMinHealth, parseTier(permission, MIN_HEALTH_PREFIX));
+            } else if (permission.startsWith(WITHDRAW_LIMIT_PREFIX)) {
+                tierWithdrawLimit = Math.max(tierWithdrawLimit, (int) parseTier(permission, WITHDRAW_LIMIT_PREFIX));
+            }
+        }
+
+        if (tierMaxHealth > 0) {
+            maxHealth = tierMaxHealth;
+        }
+        if (tierMinHealth > 0) {
+            minHealth = tierMinHealth;
+        }
+        // Withdraw tiers only raise the global limit, an unlimited default stays unlimited
+        if (withdrawLimit > 0 && tierWithdrawLimit > withdrawLimit) {
+            withdrawLimit = tierWithdrawLimit;
+        }
+        if (maxHealth > 0 && minHealth > maxHealth) {
+            minHealth = maxHealth;
+        }
+
+        return new ResolvedTiers(maxHealth, minHealth, withdrawLimit, bypass);
+    }
+
+    /**
+     * Parses the numeric suffix of a tier permission.
+     *
+     * @return The parsed value, or -1 if the suffix is not a number.
+     */
+    private static double parseTier(String permission, String prefix) {
+        try {
+            return Double.parseDouble(permission.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            plugin.getLogger().warning("Ignoring invalid permission tier: " + permission);
+            return -1;
+        }
+    }
+}
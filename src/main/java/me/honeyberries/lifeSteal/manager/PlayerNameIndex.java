@@ -0,0 +1,197 @@
+package me.honeyberries.lifeSteal.manager;
+
+import me.honeyberries.lifeSteal.LifeSteal;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * A LifeSteal-owned index of player names to UUIDs.
+ * <p>
+ * The index is updated whenever a player joins and is seeded from the elimination store,
+ * so commands that target offline players can resolve names without
+ * {@link Bukkit#getOfflinePlayer(String)}, which may block on a profile lookup.
+ * Lookups are case-insensitive and fall back to previously used names.
+ */
+public class PlayerNameIndex {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final String PLAYERS_KEY = "players";
+    private static final int MAX_HISTORY = 10;
+
+    private static File dataFile;
+
+    /** Current name (lowercase) to UUID. */
+    private static final Map<String, UUID> BY_NAME = new ConcurrentHashMap<>();
+    /** Previous name (lowercase) to UUID, used when no current name matches. */
+    private static final Map<String, UUID> BY_PREVIOUS_NAME = new ConcurrentHashMap<>();
+    /** UUID to last known name, in its original case. */
+    private static final Map<UUID, String> NAMES = new ConcurrentHashMap<>();
+    /** UUID to previous names, oldest first. */
+    private static final Map<UUID, List<String>> HISTORY = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the index from disk and seeds it from the elimination store.
+     */
+    public static void initialize() {
+        dataFile = new File(plugin.getDataFolder(), "player_names.yml");
+        BY_NAME.clear();
+        BY_PREVIOUS_NAME.clear();
+        NAMES.clear();
+        HISTORY.clear();
+
+        YamlConfiguration dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+        ConfigurationSection players = dataConfig.getConfigurationSection(PLAYERS_KEY);
+        if (players != null) {
+            for (String key : players.getKeys(false)) {
+                try {
+                    UUID uuid = UUID.fromString(key);
+                    String name = players.getString(key + ".name");
+                    if (name == null) {
+                        continue;
+                    }
+                    List<String> history = new ArrayList<>(players.getStringList(key + ".history"));
+                    NAMES.put(uuid, name);
+                    BY_NAME.put(name.toLowerCase(Locale.ROOT), uuid);
+                    HISTORY.put(uuid, history);
+                    history.forEach(previous -> BY_PREVIOUS_NAME.put(previous.toLowerCase(Locale.ROOT), uuid));
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Invalid UUID in player_names.yml: " + key);
+                }
+            }
+        }
+
+        // Seed eliminated players that joined before the index existed. Lookups by UUID are local.
+        boolean seeded = false;
+        for (UUID uuid : EliminatedPlayersData.getEliminatedPlayers()) {
+            if (!NAMES.containsKey(uuid)) {
+                String name = Bukkit.getOfflinePlayer(uuid).getName();
+                if (name != null) {
+                    seeded |= update(uuid, name);
+                }
+            }
+        }
+        if (seeded) {
+            save();
+        }
+    }
+
+    /**
+     * Records a player's current name, moving the old name into their history if it changed.
+     * Persists the index asynchronously if anything changed.
+     *
+     * @param uuid The UUID of the player
+     * @param name The player's current name
+     */
+    public static void record(@NotNull UUID uuid, @NotNull String name) {
+        if (update(uuid, name)) {
+            Bukkit.getAsyncScheduler().runNow(plugin, task -> save());
+        }
+    }
+
+    /**
+     * Updates the in-memory index.
+     *
+     * @return true if the index changed, false if the name was already current
+     */
+    private static synchronized boolean update(UUID uuid, String name) {
+        String oldName = NAMES.put(uuid, name);
+        if (name.equals(oldName)) {
+            return false;
+        }
+
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        UUID previousOwner = BY_NAME.put(lowerName, uuid);
+        if (previousOwner != null && !previousOwner.equals(uuid)) {
+            // Someone else used to have this name, it is now one of their previous names
+            NAMES.remove(previousOwner, name);
+            addHistory(previousOwner, name);
+        }
+
+        if (oldName != null && !oldName.equalsIgnoreCase(name)) {
+            BY_NAME.remove(oldName.toLowerCase(Locale.ROOT), uuid);
+            addHistory(uuid, oldName);
+        }
+        return true;
+    }
+
+    private static void addHistory(UUID uuid, String name) {
+        List<String> history = HISTORY.computeIfAbsent(uuid, key -> new ArrayList<>());
+        history.remove(name);
+        history.add(name);
+        if (history.size() > MAX_HISTORY) {
+            history.remove(0);
+        }
+        BY_PREVIOUS_NAME.put(name.toLowerCase(Locale.ROOT), uuid);
+    }
+
+    /**
+     * Resolves a name to a UUID without touching the network or player data.
+     * Current names take precedence over previous names.
+     *
+     * @param name The name to resolve, in any case
+     * @return The UUID, or null if the name has never been seen
+     */
+    @Nullable
+    public static UUID resolve(@NotNull String name) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        UUID uuid = BY_NAME.get(lowerName);
+        return uuid != null ? uuid : BY_PREVIOUS_NAME.get(lowerName);
+    }
+
+    /**
+     * Gets the last known name of a player.
+     *
+     * @param uuid The UUID of the player
+     * @return The last known name, or null if the player has never been seen
+     */
+    @Nullable
+    public static String getName(@NotNull UUID uuid) {
+        return NAMES.get(uuid);
+    }
+
+    /**
+     * Gets the previous names of a player, oldest first.
+     *
+     * @param uuid The UUID of the player
+     * @return An unmodifiable copy of the name history
+     */
+    @NotNull
+    public static synchronized List<String> getNameHistory(@NotNull UUID uuid) {
+        List<String> history = HISTORY.get(uuid);
+        return history == null ? Collections.emptyList() : List.copyOf(history);
+    }
+
+    /**
+     * Saves the index to disk.
+     */
+    public static synchronized void save() {
+        YamlConfiguration dataConfig = new YamlConfiguration();
+        for (Map.Entry<UUID, String> entry : NAMES.entrySet()) {
+            String path = PLAYERS_KEY + "." + entry.getKey();
+            dataConfig.set(path + ".name", entry.getValue());
+            List<String> history = HISTORY.get(entry.getKey());
+            if (history != null && !history.isEmpty()) {
+                dataConfig.set(path + ".history", history);
+            }
+        }
+        try {
+            dataConfig.save(dataFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save player_names.yml", e);
+        }
+    }
+}
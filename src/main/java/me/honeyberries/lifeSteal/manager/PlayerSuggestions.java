@@ -0,0 +1,96 @@
+package me.honeyberries.lifeSteal.manager;
+
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.util.PrefixTrie;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides tab completion for player arguments.
+ * <p>
+ * Online and eliminated player names are kept in prefix tries that are updated
+ * on join, quit, elimination and revival, so a suggestion request never iterates
+ * over every online player.
+ */
+public class PlayerSuggestions {
+
+    private static final PrefixTrie ONLINE = new PrefixTrie();
+    private static final PrefixTrie ELIMINATED = new PrefixTrie();
+
+    /**
+     * Fills both tries from the current online players and the elimination roster.
+     */
+    public static void initialize() {
+        ONLINE.clear();
+        ELIMINATED.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            ONLINE.add(player.getName());
+        }
+        for (EliminationRoster.Entry entry : EliminationRoster.snapshot().recent()) {
+            ELIMINATED.add(entry.displayName());
+        }
+    }
+
+    /**
+     * Adds an online player's name.
+     *
+     * @param name The player's name
+     */
+    public static void addOnline(@NotNull String name) {
+        ONLINE.add(name);
+    }
+
+    /**
+     * Removes an online player's name.
+     *
+     * @param name The player's name
+     */
+    public static void removeOnline(@NotNull String name) {
+        ONLINE.remove(name);
+    }
+
+    /**
+     * Adds an eliminated player's name.
+     *
+     * @param name The player's name
+     */
+    public static void addEliminated(@NotNull String name) {
+        ELIMINATED.add(name);
+    }
+
+    /**
+     * Removes an eliminated player's name.
+     *
+     * @param name The player's name
+     */
+    public static void removeEliminated(@NotNull String name) {
+        ELIMINATED.remove(name);
+    }
+
+    /**
+     * Suggests online player names matching the current input.
+     *
+     * @param builder The suggestions builder
+     * @return The suggestions
+     */
+    public static CompletableFuture<Suggestions> suggestOnline(@NotNull SuggestionsBuilder builder) {
+        ONLINE.search(builder.getRemaining(), LifeStealConstants.MAX_SUGGESTIONS).forEach(builder::suggest);
+        return builder.buildFuture();
+    }
+
+    /**
+     * Suggests eliminated player names matching the current input.
+     *
+     * @param builder The suggestions builder
+     * @return The suggestions
+     */
+    public static CompletableFuture<Suggestions> suggestEliminated(@NotNull SuggestionsBuilder builder) {
+        ELIMINATED.search(builder.getRemaining(), LifeStealConstants.MAX_SUGGESTIONS).forEach(builder::suggest);
+        return builder.buildFuture();
+    }
+}
@@ -0,0 +1,341 @@
+package me.honeyberries.lifeSteal.manager;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Gives every minted heart and revival item stack a unique serial and tracks how many
+ * items of each serial are still unredeemed.
+ * <p>
+ * Identical items have to share their data to stack, so a serial covers a whole minted
+ * stack and the registry keeps its remaining count rather than a single live bit. Splitting
+ * a stack keeps the serial; duplicating one lets the copies redeem more items than were
+ * minted, and every redemption past the count is rejected and logged.
+ * <p>
+ * Serials are handed out sequentially, so the registry is a map of fixed-size pages keyed
+ * by the high bits of the serial, each holding the counts of its serials in an int array.
+ * Checking and retiring a serial is two array lookups. Dirty pages are copied under the
+ * registry's lock and written to disk outside of it by the periodic flush, so redeeming
+ * items never waits for the file. Serials are reserved on disk a block ahead of the ones
+ * handed out, so a crash never hands out a serial twice. Serials minted after the last
+ * flush before a crash lost their counts and are accepted without a check from then on.
+ * <p>
+ * Recipe results are marked as unstamped and get their serial once crafted. Marked items
+ * that never got one are rejected. Items minted before serials existed carry neither and
+ * are always accepted.
+ */
+public class SerialRegistry {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final NamespacedKey SERIAL_KEY = new NamespacedKey(plugin, LifeStealConstants.ITEM_SERIAL_KEY);
+    private static final NamespacedKey UNSTAMPED_KEY = new NamespacedKey(plugin, LifeStealConstants.ITEM_UNSTAMPED_KEY);
+    private static final String NEXT_SERIAL_KEY = "next-serial"; // Serials below it may have been handed out
+    private static final String SAVED_SERIAL_KEY = "saved-serial"; // Serials below it have their counts saved
+    private static final String PAGES_KEY = "pages";
+    private static final int PAGE_SIZE = 1 << LifeStealConstants.SERIAL_PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int UNVERIFIED = Integer.MAX_VALUE; // Count of a serial whose real count was lost
+
+    private static final Map<Long, int[]> PAGES = new HashMap<>();
+    private static final Set<Long> DIRTY = new HashSet<>();
+    // Held while writing the file, so flushes save in order without holding the registry's lock
+    private static final Object SAVE_LOCK = new Object();
+    private static final AtomicBoolean FLUSH_QUEUED = new AtomicBoolean();
+
+    private static File dataFile;
+    private static YamlConfiguration dataConfig;
+    private static ScheduledTask flushTask;
+    private static long nextSerial = 1;
+    private static long reservedSerial = 1;
+    private static boolean reservationDirty;
+
+    /**
+     * Loads the registry from disk and starts the periodic flush.
+     */
+    public static void initialize() {
+        synchronized (SAVE_LOCK) {
+            synchronized (SerialRegistry.class) {
+                dataFile = new File(plugin.getDataFolder(), "item_serials.yml");
+                dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+                PAGES.clear();
+                DIRTY.clear();
+                nextSerial = Math.max(1, dataConfig.getLong(NEXT_SERIAL_KEY, 1));
+                // Files from before serials were reserved saved every mint right away
+                long savedSerial = Math.max(1, dataConfig.getLong(SAVED_SERIAL_KEY, nextSerial));
+
+                ConfigurationSection pages = dataConfig.getConfigurationSection(PAGES_KEY);
+                if (pages != null) {
+                    for (String key : pages.getKeys(false)) {
+                        try {
+                            PAGES.put(Long.parseLong(key), decode(pages.getString(key, "")));
+                        } catch (IllegalArgumentException e) {
+                            plugin.getLogger().warning("Invalid page in item_serials.yml: " + key);
+                        }
+                    }
+                }
+
+                if (savedSerial < nextSerial) {
+                    plugin.getLogger().warning("item_serials.yml was not saved before the last shutdown, accepting serials %d to %d unchecked."
+                        .formatted(savedSerial, nextSerial - 1));
+                    for (long serial = savedSerial; serial < nextSerial; serial++) {
+                        setCount(serial, UNVERIFIED);
+                    }
+                }
+                reservedSerial = nextSerial + PAGE_SIZE;
+                reservationDirty = true;
+            }
+            // The reservation has to be on disk before the first serial is handed out
+            flush();
+        }
+
+        flushTask = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> flush(),
+            LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, LifeStealConstants.LEDGER_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic flush, gives back the reserved serials and writes all remaining changes.
+     */
+    public static void shutdown() {
+        if (flushTask != null && !flushTask.isCancelled()) {
+            flushTask.cancel();
+        }
+        synchronized (SerialRegistry.class) {
+            // Nothing past the last serial was handed out, so the next start has no serials to accept unchecked
+            reservedSerial = nextSerial;
+            reservationDirty = true;
+        }
+        flush();
+    }
+
+    /**
+     * Stamps an item stack with a new serial covering its current amount.
+     *
+     * @param item The freshly created heart or revival item
+     * @return The same item, for chaining
+     */
+    @NotNull
+    public static ItemStack stamp(@NotNull ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null || item.getAmount() <= 0) {
+            return item;
+        }
+        long serial = mint(item.getAmount());
+        meta.getPersistentDataContainer().set(SERIAL_KEY, PersistentDataType.LONG, serial);
+        meta.getPersistentDataContainer().remove(UNSTAMPED_KEY);
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    /**
+     * Marks a recipe result as unstamped, so crafted copies that miss their serial are refused.
+     *
+     * @param item The result item of a heart or revival recipe
+     * @return The same item, for chaining
+     */
+    @NotNull
+    public static ItemStack markUnstamped(@NotNull ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.getPersistentDataContainer().set(UNSTAMPED_KEY, PersistentDataType.BYTE, (byte) 1);
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    /**
+     * @param item The item to check (can be null)
+     * @return true if the item was crafted but has not been given a serial yet
+     */
+    public static boolean isUnstamped(ItemStack item) {
+        if (item == null || item.isEmpty() || !item.hasItemMeta()) {
+            return false;
+        }
+        PersistentDataContainer container = item.getItemMeta().getPersistentDataContainer();
+        return container.has(UNSTAMPED_KEY, PersistentDataType.BYTE) && !container.has(SERIAL_KEY, PersistentDataType.LONG);
+    }
+
+    /**
+     * Redeems items from a stack, retiring that many items of its serial.
+     * Reused serials are rejected and logged with the player's location.
+     *
+     * @param player The player redeeming the items
+     * @param item   The stack the items come from
+     * @param amount The number of items redeemed
+     * @return true if the items may be redeemed, false if their serial is used up
+     */
+    public static boolean redeem(@NotNull Player player, @NotNull ItemStack item, int amount) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return true;
+        }
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        Long serial = container.get(SERIAL_KEY, PersistentDataType.LONG);
+        boolean accepted = serial != null ? retire(serial, amount) : !container.has(UNSTAMPED_KEY, PersistentDataType.BYTE);
+        if (accepted) {
+            return true;
+        }
+        Location location = player.getLocation();
+        String reason = serial == null ? "crafted item(s) without a serial" : "item(s) with reused serial " + serial;
+        plugin.getLogger().warning("Rejected %d %s from %s at %s %d, %d, %d.".formatted(
+            amount, reason, player.getName(), location.getWorld().getName(),
+            location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+        return false;
+    }
+
+    /**
+     * Gives back items redeemed from a stack whose use did not go through.
+     *
+     * @param item   The stack the items came from
+     * @param amount The number of items to give back
+     */
+    public static void refund(@NotNull ItemStack item, int amount) {
+        ItemMeta meta = item.getItemMeta();
+        Long serial = meta != null ? meta.getPersistentDataContainer().get(SERIAL_KEY, PersistentDataType.LONG) : null;
+        if (serial == null) {
+            return;
+        }
+        synchronized (SerialRegistry.class) {
+            long page = serial >>> LifeStealConstants.SERIAL_PAGE_BITS;
+            int[] counts = PAGES.computeIfAbsent(page, key -> new int[PAGE_SIZE]);
+            int index = (int) (serial & PAGE_MASK);
+            counts[index] = (int) Math.min(UNVERIFIED, (long) counts[index] + amount);
+            DIRTY.add(page);
+        }
+    }
+
+    /**
+     * Writes all dirty pages to disk in a single batch.
+     * <p>
+     * The pages are copied under the registry's lock and saved after releasing it.
+     */
+    public static void flush() {
+        synchronized (SAVE_LOCK) {
+            if (dataConfig == null) {
+                return;
+            }
+            Map<Long, int[]> written = new HashMap<>();
+            long savedSerial;
+            long reserved;
+            synchronized (SerialRegistry.class) {
+                if (DIRTY.isEmpty() && !reservationDirty) {
+                    return;
+                }
+                savedSerial = nextSerial;
+                reserved = reservedSerial;
+                reservationDirty = false;
+                long currentPage = nextSerial >>> LifeStealConstants.SERIAL_PAGE_BITS;
+                for (long page : DIRTY) {
+                    int[] counts = PAGES.get(page);
+                    // A page nothing will be minted into again is dropped once every serial in it is retired
+                    if (counts == null || (page < currentPage && isEmpty(counts))) {
+                        PAGES.remove(page);
+                        written.put(page, null);
+                    } else {
+                        written.put(page, counts.clone());
+                    }
+                }
+                DIRTY.clear();
+            }
+
+            dataConfig.set(NEXT_SERIAL_KEY, reserved);
+            dataConfig.set(SAVED_SERIAL_KEY, savedSerial);
+            for (Map.Entry<Long, int[]> entry : written.entrySet()) {
+                dataConfig.set(PAGES_KEY + "." + entry.getKey(), entry.getValue() != null ? encode(entry.getValue()) : null);
+            }
+            try {
+                dataConfig.save(dataFile);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Could not save item_serials.yml", e);
+            }
+        }
+    }
+
+    private static long mint(int amount) {
+        boolean reserve;
+        long serial;
+        synchronized (SerialRegistry.class) {
+            serial = nextSerial++;
+            setCount(serial, amount);
+            // Reserve the next block while half of this one is left, so it is on disk before it is needed
+            reserve = reservedSerial - nextSerial < PAGE_SIZE / 2;
+            if (reserve) {
+                reservedSerial += PAGE_SIZE;
+                reservationDirty = true;
+            }
+        }
+        if (reserve && FLUSH_QUEUED.compareAndSet(false, true)) {
+            Bukkit.getAsyncScheduler().runNow(plugin, task -> {
+                FLUSH_QUEUED.set(false);
+                flush();
+            });
+        }
+        return serial;
+    }
+
+    private static void setCount(long serial, int count) {
+        long page = serial >>> LifeStealConstants.SERIAL_PAGE_BITS;
+        PAGES.computeIfAbsent(page, key -> new int[PAGE_SIZE])[(int) (serial & PAGE_MASK)] = count;
+        DIRTY.add(page);
+    }
+
+    private static synchronized boolean retire(long serial, int amount) {
+        long page = serial >>> LifeStealConstants.SERIAL_PAGE_BITS;
+        int[] counts = PAGES.get(page);
+        int index = (int) (serial & PAGE_MASK);
+        if (counts == null || counts[index] < amount) {
+            return false;
+        }
+        if (counts[index] == UNVERIFIED) {
+            return true;
+        }
+        counts[index] -= amount;
+        DIRTY.add(page);
+        return true;
+    }
+
+    private static boolean isEmpty(int[] counts) {
+        for (int count : counts) {
+            if (count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encode(int[] counts) {
+        ByteBuffer buffer = ByteBuffer.allocate(counts.length * Integer.BYTES);
+        buffer.asIntBuffer().put(counts);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static int[] decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        int[] counts = new int[PAGE_SIZE];
+        buffer.asIntBuffer().get(counts, 0, Math.min(PAGE_SIZE, buffer.remaining() / Integer.BYTES));
+        return counts;
+    }
+}
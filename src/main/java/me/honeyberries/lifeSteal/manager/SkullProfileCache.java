@@ -0,0 +1,144 @@
+package me.honeyberries.lifeSteal.manager;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * A bounded LRU cache of player profiles with their skin textures, used to render
+ * player heads without resolving profiles on a region thread.
+ * <p>
+ * Profiles are completed on an async thread with {@link PlayerProfile#complete(boolean)}, once per
+ * player even if several heads ask for them at the same time. Players are prefetched
+ * when they are eliminated and when the revival GUI is opened. Failed lookups, such as
+ * on offline-mode servers or for deleted accounts, are not retried for a while, so
+ * rendering heads never keeps querying the session server for the same players.
+ */
+public class SkullProfileCache {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+
+    /** Completed profiles, least recently used first. Guarded by its own monitor. */
+    private static final Map<UUID, PlayerProfile> PROFILES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, PlayerProfile> eldest) {
+            return size() > LifeStealConstants.SKULL_CACHE_SIZE;
+        }
+    };
+
+    /** Lookups that are still in flight. */
+    private static final Map<UUID, CompletableFuture<PlayerProfile>> PENDING = new ConcurrentHashMap<>();
+
+    /** When failed lookups may be retried, in epoch milliseconds. */
+    private static final Map<UUID, Long> FAILED = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a cached profile.
+     *
+     * @param uuid The UUID of the player
+     * @return The completed profile, or null if it has not been fetched yet
+     */
+    @Nullable
+    public static PlayerProfile getCached(@NotNull UUID uuid) {
+        synchronized (PROFILES) {
+            return PROFILES.get(uuid);
+        }
+    }
+
+    /**
+     * Gets a profile, fetching it asynchronously if it is not cached.
+     *
+     * @param uuid The UUID of the player
+     * @return A future completed with the profile, or with null if the lookup failed recently or now
+     */
+    @NotNull
+    public static CompletableFuture<PlayerProfile> fetch(@NotNull UUID uuid) {
+        PlayerProfile cached = getCached(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        Long retryAt = FAILED.get(uuid);
+        if (retryAt != null) {
+            if (System.currentTimeMillis() < retryAt) {
+                return CompletableFuture.completedFuture(null);
+            }
+            FAILED.remove(uuid, retryAt);
+        }
+        CompletableFuture<PlayerProfile> future = new CompletableFuture<>();
+        CompletableFuture<PlayerProfile> pending = PENDING.putIfAbsent(uuid, future);
+        if (pending != null) {
+            return pending;
+        }
+
+        PlayerProfile profile = Bukkit.createProfile(uuid, PlayerNameIndex.getName(uuid));
+        Bukkit.getAsyncScheduler().runNow(plugin, task -> {
+            try {
+                if (profile.complete(true)) {
+                    store(profile);
+                    future.complete(profile);
+                } else {
+                    markFailed(uuid);
+                    future.complete(null);
+                }
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.FINE, "Could not fetch the profile of " + uuid, e);
+                markFailed(uuid);
+                future.complete(null);
+            } finally {
+                PENDING.remove(uuid);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Starts fetching a profile in the background if it is not cached.
+     *
+     * @param uuid The UUID of the player
+     */
+    public static void prefetch(@NotNull UUID uuid) {
+        fetch(uuid);
+    }
+
+    /**
+     * Caches a profile that is already known, such as an online player's own profile.
+     * Profiles without textures are fetched in the background instead.
+     *
+     * @param profile The profile to cache
+     */
+    public static void offer(@NotNull PlayerProfile profile) {
+        if (profile.getId() == null) {
+            return;
+        }
+        if (profile.hasTextures()) {
+            store(profile);
+        } else {
+            fetch(profile.getId());
+        }
+    }
+
+    private static void store(PlayerProfile profile) {
+        if (profile.getId() == null) {
+            return;
+        }
+        FAILED.remove(profile.getId());
+        synchronized (PROFILES) {
+            PROFILES.put(profile.getId(), profile);
+        }
+    }
+
+    private static void markFailed(UUID uuid) {
+        FAILED.put(uuid, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(LifeStealConstants.SKULL_RETRY_SECONDS));
+    }
+}
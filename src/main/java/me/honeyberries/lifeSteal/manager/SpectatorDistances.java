@@ -0,0 +1,68 @@
+package me.honeyberries.lifeSteal.manager;
+
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Lowers the view, send and simulation distances of eliminated spectators.
+ * <p>
+ * A spectator still counts as an online player, so at full distances they are sent and
+ * keep ticking as many chunks as anyone else. The distances a player had before are kept
+ * in their persistent data until they are revived. Per-player distances reset when a
+ * player reconnects, so they are applied again on every join.
+ */
+public class SpectatorDistances {
+
+    private static final NamespacedKey SAVED_KEY = new NamespacedKey(LifeSteal.getInstance(), LifeStealConstants.SAVED_DISTANCES_KEY);
+
+    /**
+     * Applies the reduced distances, remembering the player's current ones the first time.
+     * Must run on the player's own scheduler.
+     *
+     * @param player The eliminated player
+     */
+    public static void apply(@NotNull Player player) {
+        if (!LifeStealSettings.isSpectatorDistancesEnabled()
+            || !"SPECTATOR".equalsIgnoreCase(LifeStealSettings.getEliminationMode())) {
+            return;
+        }
+
+        PersistentDataContainer container = player.getPersistentDataContainer();
+        if (!container.has(SAVED_KEY, PersistentDataType.INTEGER_ARRAY)) {
+            container.set(SAVED_KEY, PersistentDataType.INTEGER_ARRAY, new int[] {
+                player.getViewDistance(), player.getSendViewDistance(), player.getSimulationDistance()
+            });
+        }
+        player.setViewDistance(LifeStealSettings.getSpectatorViewDistance());
+        player.setSendViewDistance(LifeStealSettings.getSpectatorSendDistance());
+        player.setSimulationDistance(LifeStealSettings.getSpectatorSimulationDistance());
+    }
+
+    /**
+     * Restores the distances the player had before they were eliminated, if any were saved.
+     * Must run on the player's own scheduler.
+     *
+     * @param player The revived player
+     * @return true if the player had saved distances, meaning they were eliminated in spectator mode
+     */
+    public static boolean restore(@NotNull Player player) {
+        PersistentDataContainer container = player.getPersistentDataContainer();
+        int[] saved = container.get(SAVED_KEY, PersistentDataType.INTEGER_ARRAY);
+        if (saved == null) {
+            return false;
+        }
+        container.remove(SAVED_KEY);
+        if (saved.length == 3) {
+            player.setViewDistance(saved[0]);
+            player.setSendViewDistance(saved[1]);
+            player.setSimulationDistance(saved[2]);
+        }
+        return true;
+    }
+}
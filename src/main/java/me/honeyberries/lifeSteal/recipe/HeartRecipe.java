@@ -1,18 +1,21 @@
 package me.honeyberries.lifeSteal.recipe;
 
 import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.HeartTier;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
-import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ShapedRecipe;
+import org.jetbrains.annotations.NotNull;
+
 import java.util.Map;
 
 /**
- * Registers the custom crafting recipe for the "Heart" item.
- * This recipe allows players to craft a "Heart" using various materials.
+ * Registers the custom crafting recipes for the "Heart" items.
+ * Each heart tier has its own recipe, allowing players to craft it using various materials.
  */
 public class HeartRecipe {
 
@@ -23,14 +26,27 @@ public class HeartRecipe {
     public static final NamespacedKey recipeKey = new NamespacedKey(plugin, LifeStealConstants.HEART_RECIPE_KEY);
 
     /**
-     * Registers the custom crafting recipe for the "Heart" item.
+     * Gets the key of a heart tier's recipe. The default tier keeps the original heart recipe key,
+     * the others are keyed by their index since tier names need not be valid keys.
+     *
+     * @param tier The heart tier.
+     * @return The namespaced key of the tier's recipe.
+     */
+    public static NamespacedKey recipeKey(@NotNull HeartTier tier) {
+        return tier.index() == 0 ? recipeKey : new NamespacedKey(plugin, LifeStealConstants.HEART_RECIPE_KEY + "_" + tier.index());
+    }
+
+    /**
+     * Registers the custom crafting recipe for a heart tier.
+     *
+     * @param tier The heart tier.
      */
-    public static void registerHeartRecipe() {
-        ShapedRecipe heartRecipe = new ShapedRecipe(recipeKey, LifeStealUtil.createHeartItem(1));
-        heartRecipe.shape(LifeStealSettings.getRecipeShape());
+    public static void registerHeartRecipe(@NotNull HeartTier tier) {
+        ShapedRecipe heartRecipe = new ShapedRecipe(recipeKey(tier), SerialRegistry.markUnstamped(LifeStealUtil.createHeartItem(tier, 1)));
+        heartRecipe.shape(tier.recipeShape());
 
         // set ingredients from config
-        for (Map.Entry<Character, Material> entry : LifeStealSettings.getRecipeIngredients().entrySet()) {
+        for (Map.Entry<Character, Material> entry : tier.recipeIngredients().entrySet()) {
             heartRecipe.setIngredient(entry.getKey(), entry.getValue());
         }
 
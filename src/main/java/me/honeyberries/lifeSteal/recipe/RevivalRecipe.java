@@ -3,6 +3,7 @@ package me.honeyberries.lifeSteal.recipe;
 import me.honeyberries.lifeSteal.LifeSteal;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.manager.SerialRegistry;
 import me.honeyberries.lifeSteal.util.LifeStealUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -23,7 +24,7 @@ public class RevivalRecipe {
      * The recipe uses ingredients defined in the config file.
      */
     public static void registerRevivalRecipe() {
-        ShapedRecipe revivalRecipe = new ShapedRecipe(recipeKey, LifeStealUtil.createRevivalItem(1));
+        ShapedRecipe revivalRecipe = new ShapedRecipe(recipeKey, SerialRegistry.markUnstamped(LifeStealUtil.createRevivalItem(1)));
         revivalRecipe.shape(LifeStealSettings.getRevivalRecipeShape());
 
         // set ingredients from config
@@ -1,7 +1,10 @@
 package me.honeyberries.lifeSteal.task;
 
 import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.HeartTier;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.recipe.HeartRecipe;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
@@ -28,12 +31,14 @@ public class HeartRecipeDiscoveryTask implements Runnable {
     }
 
     private void discoverRecipes(Player player) {
-        NamespacedKey heartRecipeKey = new NamespacedKey(plugin, LifeStealConstants.HEART_RECIPE_KEY);
         NamespacedKey revivalRecipeKey = new NamespacedKey(plugin, LifeStealConstants.REVIVAL_RECIPE_KEY);
 
         // These operations are now running on the entity scheduler, so they can be executed directly
-        if (!player.hasDiscoveredRecipe(heartRecipeKey)) {
-            player.discoverRecipe(heartRecipeKey);
+        for (HeartTier tier : LifeStealSettings.getHeartTiers()) {
+            NamespacedKey heartRecipeKey = HeartRecipe.recipeKey(tier);
+            if (!player.hasDiscoveredRecipe(heartRecipeKey)) {
+                player.discoverRecipe(heartRecipeKey);
+            }
         }
         
         if (!player.hasDiscoveredRecipe(revivalRecipeKey)) {
@@ -0,0 +1,325 @@
+package me.honeyberries.lifeSteal.task;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.command.CommandPipeline;
+import me.honeyberries.lifeSteal.config.LifeStealConstants;
+import me.honeyberries.lifeSteal.config.Messages;
+import me.honeyberries.lifeSteal.manager.HeartLedger;
+import me.honeyberries.lifeSteal.util.LifeStealUtil;
+import me.honeyberries.lifeSteal.util.NbtIO;
+import org.bukkit.Bukkit;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Resets the max health of every player, online or offline, when LifeSteal is uninstalled.
+ * <p>
+ * Online players are reset on their own schedulers. Offline players are reset by streaming
+ * the main world's {@code playerdata/*.dat} files: a fixed number of files are processed at
+ * once, submissions are throttled, and each file is only in memory while it is rewritten.
+ * Every finished file is appended to a progress log in the plugin folder, so a job that was
+ * interrupted by a crash or shutdown continues where it stopped the next time it is started.
+ * <p>
+ * A plain heart reset only bumps the heart epoch and lets players reset on join, but after
+ * an uninstall nothing is left to do that, so the files are rewritten here.
+ */
+public class PlayerDataResetJob {
+
+    private static final LifeSteal plugin = LifeSteal.getInstance();
+    private static final String PROGRESS_FILE = "uninstall_progress.log";
+    private static final Set<String> MAX_HEALTH_IDS = Set.of("minecraft:max_health", "minecraft:generic.max_health", "generic.max_health");
+    private static final String NAMESPACE = plugin.getName().toLowerCase(Locale.ROOT);
+    private static final String HEARTS_MODIFIER_ID = NAMESPACE + ":" + LifeStealConstants.HEARTS_MODIFIER_KEY;
+    private static final String HEART_EPOCH_ID = NAMESPACE + ":" + LifeStealConstants.HEART_EPOCH_KEY;
+    private static final AtomicBoolean RUNNING = new AtomicBoolean();
+    private static volatile boolean cancelled;
+
+    private final CommandSender sender;
+    private final Path playerDataFolder;
+    private final Path progressFile;
+    private final AtomicInteger done = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile int total;
+    private volatile int resumed;
+    private volatile long startedAt;
+
+    private PlayerDataResetJob(CommandSender sender, Path playerDataFolder) {
+        this.sender = sender;
+        this.playerDataFolder = playerDataFolder;
+        this.progressFile = plugin.getDataFolder().toPath().resolve(PROGRESS_FILE);
+    }
+
+    /**
+     * Starts the reset job in the background, resuming an interrupted job if there is one.
+     *
+     * @param sender The sender to report progress to
+     * @return true if the job was started, false if one is already running
+     */
+    public static boolean start(@NotNull CommandSender sender) {
+        if (!RUNNING.compareAndSet(false, true)) {
+            return false;
+        }
+        cancelled = false;
+        Path playerDataFolder = Bukkit.getWorlds().get(0).getWorldFolder().toPath().resolve("playerdata");
+        PlayerDataResetJob job = new PlayerDataResetJob(sender, playerDataFolder);
+        Bukkit.getAsyncScheduler().runNow(plugin, task -> job.run());
+        return true;
+    }
+
+    /**
+     * Stops a running job after the files in progress. The progress log is kept for resuming.
+     */
+    public static void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks whether a previous job was interrupted before it finished.
+     *
+     * @return true if a progress log from an unfinished job exists
+     */
+    public static boolean hasUnfinishedJob() {
+        return Files.exists(plugin.getDataFolder().toPath().resolve(PROGRESS_FILE));
+    }
+
+    private void run() {
+        ScheduledTask reporter = null;
+        try {
+            // The ledger would otherwise re-apply pending hearts on the next join
+            HeartLedger.resetAll();
+            Bukkit.getOnlinePlayers().forEach(this::resetOnline);
+
+            Set<String> finished = readProgress();
+            total = countFiles();
+            resumed = finished.size();
+            startedAt = System.nanoTime();
+            CommandPipeline.reply(sender, replyTo -> replyTo.sendMessage(Messages.uninstallStarted(String.valueOf(total))));
+            reporter = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, task -> reportProgress(),
+                LifeStealConstants.UNINSTALL_PROGRESS_INTERVAL_SECONDS, LifeStealConstants.UNINSTALL_PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+            processFiles(finished);
+
+            if (cancelled) {
+                plugin.getLogger().info("Uninstall stopped at " + (resumed + done.get()) + "/" + total + " player files. It resumes on the next /lifesteal uninstall.");
+            } else if (failed.get() > 0) {
+                CommandPipeline.reply(sender, replyTo -> replyTo.sendMessage(Messages.uninstallIncomplete(String.valueOf(failed.get()))));
+            } else {
+                Files.deleteIfExists(progressFile);
+                CommandPipeline.reply(sender, replyTo -> replyTo.sendMessage(Messages.pluginUninstalled()));
+                plugin.getLogger().info("Reset the max health of " + total + " player files.");
+            }
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "The uninstall job failed. Run /lifesteal uninstall again to resume it.", e);
+            CommandPipeline.reply(sender, replyTo -> replyTo.sendMessage(Messages.uninstallIncomplete(String.valueOf(total - done.get()))));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (reporter != null) {
+                reporter.cancel();
+            }
+            RUNNING.set(false);
+        }
+    }
+
+    /**
+     * Streams the player data folder, handing files to a bounded pool at a throttled rate.
+     */
+    private void processFiles(Set<String> finished) throws IOException, InterruptedException {
+        int parallelism = LifeStealConstants.UNINSTALL_PARALLELISM;
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        // At most one waiting file per worker, so the stream is never read far ahead
+        Semaphore permits = new Semaphore(parallelism * 2);
+        long submitted = 0;
+
+        try (BufferedWriter progress = Files.newBufferedWriter(progressFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             DirectoryStream<Path> files = Files.newDirectoryStream(playerDataFolder, "*.dat")) {
+            for (Path file : files) {
+                if (cancelled) {
+                    break;
+                }
+                String fileName = file.getFileName().toString();
+                if (finished.contains(fileName)) {
+                    continue;
+                }
+
+                throttle(submitted++);
+                permits.acquire();
+                pool.execute(() -> {
+                    try {
+                        resetFile(file);
+                        synchronized (progress) {
+                            progress.write(fileName);
+                            progress.newLine();
+                            progress.flush();
+                        }
+                        done.incrementAndGet();
+                    } catch (IOException | RuntimeException e) {
+                        failed.incrementAndGet();
+                        plugin.getLogger().log(Level.WARNING, "Could not reset player file " + fileName, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Resets one player file. Files of players who are online are reset in memory
+     * instead, since the server would overwrite the file when it saves them.
+     */
+    private void resetFile(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        try {
+            UUID uuid = UUID.fromString(fileName.substring(0, fileName.length() - ".dat".length()));
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                resetOnline(player);
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a player file name, reset it anyway
+        }
+
+        NbtIO.Root root = NbtIO.readCompressed(file);
+        if (!resetMaxHealth(root.value())) {
+            return;
+        }
+        Path temporary = file.resolveSibling(fileName + ".lifesteal-tmp");
+        NbtIO.writeCompressed(root, temporary);
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Sets the max health base value in a player compound back to the default, and removes
+     * the LifeSteal hearts modifier and heart epoch stamp.
+     *
+     * @return true if the compound changed
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean resetMaxHealth(Map<String, Object> player) {
+        double defaultHealth = LifeStealConstants.DEFAULT_PLAYER_MAX_HEALTH;
+        boolean changed = false;
+
+        Object attributes = player.containsKey("attributes") ? player.get("attributes") : player.get("Attributes");
+        if (attributes instanceof NbtIO.TagList list) {
+            for (Object element : list.values()) {
+                if (!(element instanceof Map<?, ?> attribute)) {
+                    continue;
+                }
+                Map<String, Object> entry = (Map<String, Object>) attribute;
+                Object id = entry.containsKey("id") ? entry.get("id") : entry.get("Name");
+                if (!MAX_HEALTH_IDS.contains(id)) {
+                    continue;
+                }
+                String baseKey = entry.containsKey("Base") ? "Base" : "base";
+                if (!Double.valueOf(defaultHealth).equals(entry.get(baseKey))) {
+                    entry.put(baseKey, defaultHealth);
+                    changed = true;
+                }
+                Object modifiers = entry.containsKey("modifiers") ? entry.get("modifiers") : entry.get("Modifiers");
+                if (modifiers instanceof NbtIO.TagList modifierList) {
+                    changed |= modifierList.values().removeIf(modifier ->
+                        modifier instanceof Map<?, ?> map && HEARTS_MODIFIER_ID.equals(map.get("id")));
+                }
+            }
+        }
+
+        if (player.get("BukkitValues") instanceof Map<?, ?> bukkitValues) {
+            changed |= bukkitValues.remove(HEART_EPOCH_ID) != null;
+        }
+
+        // Clamp current health, which may be above the new maximum
+        if (player.get("Health") instanceof Float health && health > defaultHealth) {
+            player.put("Health", (float) defaultHealth);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private void resetOnline(Player player) {
+        player.getScheduler().run(plugin, task -> {
+            AttributeInstance maxHealth = player.getAttribute(Attribute.MAX_HEALTH);
+            if (maxHealth != null) {
+                maxHealth.setBaseValue(maxHealth.getDefaultValue());
+                LifeStealUtil.setMaxHealth(player, maxHealth.getDefaultValue());
+            }
+        }, null);
+    }
+
+    private void throttle(long submitted) throws InterruptedException {
+        long due = startedAt + TimeUnit.SECONDS.toNanos(submitted) / LifeStealConstants.UNINSTALL_MAX_FILES_PER_SECOND;
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private Set<String> readProgress() throws IOException {
+        Set<String> finished = new HashSet<>();
+        if (Files.exists(progressFile)) {
+            try (var lines = Files.lines(progressFile)) {
+                lines.filter(line -> !line.isBlank()).forEach(finished::add);
+            }
+            plugin.getLogger().info("Resuming the uninstall, " + finished.size() + " player files were already reset.");
+        }
+        return finished;
+    }
+
+    private int countFiles() throws IOException {
+        int count = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(playerDataFolder, "*.dat")) {
+            for (Path ignored : files) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void reportProgress() {
+        int processed = done.get() + failed.get();
+        int completed = resumed + done.get();
+        int remaining = Math.max(0, total - resumed - processed);
+        long elapsed = System.nanoTime() - startedAt;
+        long etaSeconds = processed == 0 ? 0 : TimeUnit.NANOSECONDS.toSeconds(elapsed / processed * remaining);
+        int percent = total == 0 ? 100 : (int) (100L * completed / total);
+
+        String eta = etaSeconds >= 3600
+            ? "%d:%02d:%02d".formatted(etaSeconds / 3600, etaSeconds / 60 % 60, etaSeconds % 60)
+            : "%d:%02d".formatted(etaSeconds / 60, etaSeconds % 60);
+        CommandPipeline.reply(sender, replyTo -> replyTo.sendMessage(Messages.uninstallProgress(
+            String.valueOf(completed), String.valueOf(total), String.valueOf(percent), eta)));
+    }
+}
@@ -1,30 +1,62 @@
 package me.honeyberries.lifeSteal.util;
 
 import me.honeyberries.lifeSteal.LifeSteal;
+import me.honeyberries.lifeSteal.config.HeartTier;
 import me.honeyberries.lifeSteal.config.LifeStealConstants;
 import me.honeyberries.lifeSteal.config.LifeStealSettings;
+import me.honeyberries.lifeSteal.manager.HeartEconomy;
+import me.honeyberries.lifeSteal.manager.HeartLedger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlotGroup;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
 
 /**
  * Utility class for LifeSteal plugin operations.
  * Provides helper methods for health management and item creation.
+ * <p>
+ * LifeSteal hearts are stored as a single {@code lifesteal:hearts} modifier on the
+ * max health attribute, so the base value stays owned by vanilla and other plugins.
  */
 public class LifeStealUtil {
     private static final NamespacedKey HEART_ID_KEY = new NamespacedKey(LifeSteal.getInstance(), "unique_heart_id");
     private static final NamespacedKey REVIVAL_ID_KEY = new NamespacedKey(LifeSteal.getInstance(), "unique_revival_id");
+    private static final NamespacedKey HEARTS_MODIFIER_KEY = new NamespacedKey(LifeSteal.getInstance(), LifeStealConstants.HEARTS_MODIFIER_KEY);
+    private static final NamespacedKey HEART_EPOCH_KEY = new NamespacedKey(LifeSteal.getInstance(), LifeStealConstants.HEART_EPOCH_KEY);
+    private static final NamespacedKey HEART_TEMPLATE_KEY = new NamespacedKey(LifeSteal.getInstance(), LifeStealConstants.HEART_TEMPLATE_KEY);
+    private static final NamespacedKey HEART_VALUE_KEY = new NamespacedKey(LifeSteal.getInstance(), LifeStealConstants.HEART_VALUE_KEY);
+    private static final NamespacedKey HEART_TIER_KEY = new NamespacedKey(LifeSteal.getInstance(), LifeStealConstants.HEART_TIER_KEY);
+
+    /** Heart tiers by material ordinal and then by tier index, see {@link #getHeartTier(ItemStack)}. */
+    private static volatile HeartTier[][] tiersByMaterial = new HeartTier[Material.values().length][];
+    /** Whether a current heart tier uses a material, by material ordinal. Materials tiers used before are left out. */
+    private static volatile boolean[] currentHeartMaterials = new boolean[Material.values().length];
+    private static final String TIER_MATERIALS_FILE = "heart_tier_materials.yml";
 
     /**
      * Adjusts the player's max health by the specified amount.
@@ -38,23 +70,65 @@ public class LifeStealUtil {
         setMaxHealth(player, newMaxHealth);
     }
     /**
-     * Sets the player's max health to a specific value.
+     * Sets the player's max health to a specific value and records it in the {@link HeartLedger}.
+     * The difference from the base value is stored in the LifeSteal hearts modifier, and the
+     * player is stamped with the current heart epoch.
      *
      * @param player The player whose max health is being set.
      * @param health The new max health value.
      */
     public static void setMaxHealth(@NotNull Player player, double health) {
-        Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH)).setBaseValue(health);
+        AttributeInstance attribute = Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH));
+        attribute.removeModifier(HEARTS_MODIFIER_KEY);
+        double delta = health - attribute.getBaseValue();
+        if (Math.abs(delta) > LifeStealConstants.MIN_HEALTH_EPSILON) {
+            attribute.addModifier(new AttributeModifier(HEARTS_MODIFIER_KEY, delta,
+                AttributeModifier.Operation.ADD_NUMBER, EquipmentSlotGroup.ANY));
+        }
+        player.getPersistentDataContainer().set(HEART_EPOCH_KEY, PersistentDataType.LONG, HeartLedger.getEpoch());
+        HeartLedger.record(player.getUniqueId(), health);
     }
 
     /**
-     * Retrieves the player's current max health.
+     * Retrieves the player's current max health, the base value plus LifeSteal hearts.
+     * Modifiers from equipment, effects and other plugins are not included.
      *
      * @param player The player whose max health is being retrieved.
      * @return The player's max health.
      */
     public static double getMaxHealth(@NotNull Player player) {
-        return Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH)).getBaseValue();
+        AttributeInstance attribute = Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH));
+        AttributeModifier hearts = attribute.getModifier(HEARTS_MODIFIER_KEY);
+        return attribute.getBaseValue() + (hearts != null ? hearts.getAmount() : 0);
+    }
+
+    /**
+     * Brings a player's hearts up to date with the current heart epoch.
+     * <p>
+     * Players without a stamp still have their hearts in the base value, from before the
+     * hearts modifier existed; those hearts are moved into the modifier. Players stamped
+     * with an older epoch have had a global reset since their last visit and lose their
+     * hearts modifier. Must run on the player's own scheduler.
+     *
+     * @param player The player to update.
+     * @return true if the player's hearts were reset.
+     */
+    public static boolean syncHeartEpoch(@NotNull Player player) {
+        PersistentDataContainer container = player.getPersistentDataContainer();
+        Long stamp = container.get(HEART_EPOCH_KEY, PersistentDataType.LONG);
+        AttributeInstance attribute = Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH));
+
+        if (stamp == null) {
+            double health = attribute.getBaseValue();
+            attribute.setBaseValue(attribute.getDefaultValue());
+            setMaxHealth(player, health);
+            return false;
+        }
+        if (stamp < HeartLedger.getEpoch()) {
+            setMaxHealth(player, attribute.getBaseValue());
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -73,7 +147,7 @@ public class LifeStealUtil {
     }
 
     /**
-     * Creates a custom "Heart" item represented by a Nether Star with unique properties.
+     * Creates a custom "Heart" item of the heart item configured under {@code heart-item}.
      * <p>
      * This item is designed to be used in a lifesteal plugin, granting players a permanent heart upon use.
      * It features a custom display name, lore, a glowing effect, and unique metadata to distinguish it from regular Nether Stars.
@@ -82,32 +156,30 @@ public class LifeStealUtil {
      * @return An ItemStack representing the custom "Heart" item with the specified quantity.
      */
     public static ItemStack createHeartItem(int quantity) {
-        String materialName = LifeStealSettings.getHeartItemID();
-        Material material = Material.matchMaterial(materialName);
+        return createHeartItem(LifeStealSettings.getHeartTiers().get(0), quantity);
+    }
 
-        if (material == null) {
-            LifeSteal.getInstance().getLogger().severe("Invalid material ID in config.yml: " + materialName);
+    /**
+     * Creates heart items of a tier.
+     *
+     * @param tier     The tier of the items.
+     * @param quantity The number of items to create.
+     * @return An ItemStack of the tier's heart item with the specified quantity, or air if the tier's material is invalid.
+     */
+    public static ItemStack createHeartItem(@NotNull HeartTier tier, int quantity) {
+        if (tier.material() == null) {
+            LifeSteal.getInstance().getLogger().severe("Invalid material ID in config.yml for heart tier: " + tier.id());
             return new ItemStack(Material.AIR); // Return an empty item to avoid errors
         }
 
-        ItemStack heart = new ItemStack(material, quantity);
+        ItemStack heart = new ItemStack(tier.material(), quantity);
         ItemMeta meta = heart.getItemMeta();
 
         if (meta != null) {
-            meta.displayName(Component.text(LifeStealSettings.getHeartItemName()).color(NamedTextColor.DARK_PURPLE));
-
-            double healthPerItem = LifeStealSettings.getHealthPerItem();
-            double hearts = healthPerItem / LifeStealConstants.HEALTH_POINTS_PER_HEART;
-            String heartText = hearts == 1.0 ? "heart" : "hearts";
-
-            meta.lore(List.of(
-                Component.text("Gives " + formatHealth(hearts) + " permanent " + heartText)
-                    .color(NamedTextColor.DARK_PURPLE)
-            ));
-
+            meta.getPersistentDataContainer().set(HEART_ID_KEY, PersistentDataType.STRING, LifeStealConstants.HEART_ID);
+            applyHeartTemplate(meta, tier, tier.healthPerItem());
             meta.addEnchant(Enchantment.MENDING, 1, true);
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-            meta.getPersistentDataContainer().set(HEART_ID_KEY, PersistentDataType.STRING, LifeStealConstants.HEART_ID);
             heart.setItemMeta(meta);
         }
 
@@ -115,7 +187,284 @@ public class LifeStealUtil {
     }
 
     /**
-     * Checks if the given {@link ItemStack} is a custom Heart item.
+     * Creates heart items worth the given number of items of the default tier, using as few
+     * items as possible across all tiers.
+     * <p>
+     * Only tiers worth a whole number of default items take part. Tier values need not
+     * divide each other, so the split is found by dynamic programming over the amount
+     * rather than greedily, which costs one pass per tier over every amount up to the total.
+     *
+     * @param baseItems The number of default heart items the result is worth.
+     * @return One stack per tier used, each possibly larger than the item's maximum stack size.
+     */
+    public static List<ItemStack> createHeartItems(int baseItems) {
+        List<HeartTier> tiers = LifeStealSettings.getHeartTiers();
+        HeartTier base = tiers.get(0);
+        if (tiers.size() == 1 || base.healthPerItem() <= 0 || baseItems <= 1) {
+            return List.of(createHeartItem(base, baseItems));
+        }
+
+        // The worth of every tier in default items, 0 for tiers that cannot be used
+        int[] values = new int[tiers.size()];
+        for (HeartTier tier : tiers) {
+            int worth = getWorthInBaseItems(tier.healthPerItem());
+            if (tier.material() != null && worth <= baseItems) {
+                values[tier.index()] = worth;
+            }
+        }
+        if (values[0] != 1) {
+            return List.of(createHeartItem(base, baseItems));
+        }
+
+        // The fewest items for every amount, and the tier of the last item that reaches it
+        int[] fewest = new int[baseItems + 1];
+        int[] last = new int[baseItems + 1];
+        for (int amount = 1; amount <= baseItems; amount++) {
+            fewest[amount] = Integer.MAX_VALUE;
+            for (int tier = 0; tier < values.length; tier++) {
+                int value = values[tier];
+                if (value > 0 && value <= amount && fewest[amount - value] + 1 < fewest[amount]) {
+                    fewest[amount] = fewest[amount - value] + 1;
+                    last[amount] = tier;
+                }
+            }
+        }
+
+        int[] counts = new int[values.length];
+        for (int amount = baseItems; amount > 0; amount -= values[last[amount]]) {
+            counts[last[amount]]++;
+        }
+        List<ItemStack> items = new ArrayList<>();
+        for (int tier = counts.length - 1; tier >= 0; tier--) {
+            if (counts[tier] > 0) {
+                items.add(createHeartItem(tiers.get(tier), counts[tier]));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Gets how many items of the default heart tier a heart item is worth.
+     *
+     * @param health The health the heart item gives.
+     * @return The number of default items, or 0 if the health is not a whole multiple of theirs.
+     */
+    public static int getWorthInBaseItems(double health) {
+        double baseHealth = LifeStealSettings.getHealthPerItem();
+        if (baseHealth <= 0) {
+            return 0;
+        }
+        double ratio = health / baseHealth;
+        long rounded = Math.round(ratio);
+        if (rounded < 1 || rounded > Integer.MAX_VALUE || Math.abs(ratio - rounded) >= LifeStealConstants.MIN_HEALTH_EPSILON) {
+            return 0;
+        }
+        return (int) rounded;
+    }
+
+    /**
+     * Rebuilds the index used by {@link #getHeartTier(ItemStack)}. Must be called whenever the heart tiers are loaded.
+     * <p>
+     * Every material a tier has used is remembered in {@code heart_tier_materials.yml} and
+     * indexed along with its current one, so items made before a tier's material was
+     * changed are still found with a single lookup.
+     */
+    public static void indexHeartTiers() {
+        HeartTier[][] index = new HeartTier[Material.values().length][];
+        boolean[] current = new boolean[Material.values().length];
+        List<HeartTier> tiers = LifeStealSettings.getHeartTiers();
+        Map<Integer, Set<Material>> usedMaterials = rememberTierMaterials(tiers);
+        for (HeartTier tier : tiers) {
+            if (tier.material() == null) {
+                continue;
+            }
+            current[tier.material().ordinal()] = true;
+            for (Material material : usedMaterials.getOrDefault(tier.index(), Set.of(tier.material()))) {
+                int ordinal = material.ordinal();
+                if (index[ordinal] == null) {
+                    index[ordinal] = new HeartTier[tiers.size()];
+                }
+                index[ordinal][tier.index()] = tier;
+            }
+        }
+        currentHeartMaterials = current;
+        tiersByMaterial = index;
+    }
+
+    /**
+     * Adds the current material of every tier to the materials its index has used, saving the file if any were new.
+     *
+     * @param tiers The loaded heart tiers.
+     * @return Every material each tier index has used, including its current one.
+     */
+    private static Map<Integer, Set<Material>> rememberTierMaterials(List<HeartTier> tiers) {
+        File file = new File(LifeSteal.getInstance().getDataFolder(), TIER_MATERIALS_FILE);
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        Map<Integer, Set<Material>> used = new HashMap<>();
+        boolean changed = false;
+        for (HeartTier tier : tiers) {
+            if (tier.material() == null) {
+                continue;
+            }
+            String path = "tiers." + tier.index();
+            List<String> names = new ArrayList<>(config.getStringList(path));
+            if (!names.contains(tier.material().name())) {
+                names.add(tier.material().name());
+                config.set(path, names);
+                changed = true;
+            }
+            Set<Material> materials = EnumSet.noneOf(Material.class);
+            for (String name : names) {
+                Material material = Material.matchMaterial(name);
+                if (material != null) {
+                    materials.add(material);
+                }
+            }
+            used.put(tier.index(), materials);
+        }
+        if (changed) {
+            try {
+                config.save(file);
+            } catch (IOException e) {
+                LifeSteal.getInstance().getLogger().log(Level.SEVERE, "Could not save " + TIER_MATERIALS_FILE, e);
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Checks if any heart tier uses a material, without looking at an item.
+     *
+     * @param material The material to check.
+     * @return {@code true} if items of the material may be heart items.
+     */
+    public static boolean isHeartMaterial(@NotNull Material material) {
+        return currentHeartMaterials[material.ordinal()];
+    }
+
+    /**
+     * Gets the tier of a heart item.
+     * <p>
+     * Tiers are indexed by material and then by the tier byte on the item, so classifying
+     * an item is one array lookup however many tiers exist, and items of a material no
+     * tier uses or used are rejected without reading their meta. Heart items from before
+     * tiers existed carry no tier byte and belong to tier 0.
+     *
+     * @param item The item to check (can be null).
+     * @return The tier of the item, or null if it is not a heart item of a configured tier.
+     */
+    @Nullable
+    public static HeartTier getHeartTier(ItemStack item) {
+        if (item == null) {
+            return null;
+        }
+        HeartTier[] tiers = tiersByMaterial[item.getType().ordinal()];
+        if (tiers == null) {
+            return null;
+        }
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return null;
+        }
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        if (!LifeStealConstants.HEART_ID.equals(container.get(HEART_ID_KEY, PersistentDataType.STRING))) {
+            return null;
+        }
+        Byte tier = container.get(HEART_TIER_KEY, PersistentDataType.BYTE);
+        int index = tier != null ? tier : 0;
+        return index >= 0 && index < tiers.length ? tiers[index] : null;
+    }
+
+    /**
+     * Brings a heart item's name, lore and value up to date with the current configuration.
+     * <p>
+     * Heart items are stamped with the version of the template they were built with, so an
+     * item only needs rebuilding when the name or health of its tier, or the keep-minted-value
+     * setting, changed since. Items are upgraded lazily whenever they are touched, which never
+     * requires scanning every inventory. With keep-minted-value, the item keeps the health it
+     * was created with and only its name is updated. Items of a tier whose material was
+     * changed are copied onto the new material, so callers always write the returned
+     * stack back to where the item came from.
+     *
+     * @param item The item to upgrade (can be null).
+     * @return The rebuilt item, or null if the item is not a heart item or already up to date.
+     */
+    @Nullable
+    public static ItemStack upgradeHeartItem(ItemStack item) {
+        HeartTier tier = getHeartTier(item);
+        if (tier == null) {
+            return null;
+        }
+        Integer template = item.getItemMeta().getPersistentDataContainer().get(HEART_TEMPLATE_KEY, PersistentDataType.INTEGER);
+        if (template != null && template == currentHeartTemplate(tier) && item.getType() == tier.material()) {
+            return null;
+        }
+        if (item.getType() != tier.material()) {
+            item = item.withType(tier.material());
+        }
+        ItemMeta meta = item.getItemMeta();
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        Double minted = container.get(HEART_VALUE_KEY, PersistentDataType.DOUBLE);
+        // Items from before values were stamped were made at an unknown value, the current one is the best guess
+        double value = LifeStealSettings.isKeepMintedValue() && minted != null ? minted : tier.healthPerItem();
+        if (minted != null && minted != value) {
+            HeartEconomy.itemsRevalued(item.getAmount(), minted, value);
+        }
+        applyHeartTemplate(meta, tier, value);
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    /**
+     * Gets the health a heart item gives when used.
+     *
+     * @param item The heart item.
+     * @return The health the item was created with if keep-minted-value is enabled, the current health of its tier otherwise.
+     */
+    public static double getHeartItemHealth(@NotNull ItemStack item) {
+        HeartTier tier = getHeartTier(item);
+        double current = tier != null ? tier.healthPerItem() : LifeStealSettings.getHealthPerItem();
+        if (!LifeStealSettings.isKeepMintedValue() || item.getItemMeta() == null) {
+            return current;
+        }
+        Double minted = item.getItemMeta().getPersistentDataContainer().get(HEART_VALUE_KEY, PersistentDataType.DOUBLE);
+        return minted != null ? minted : current;
+    }
+
+    /**
+     * Writes the tier's name, the lore for the given value, the tier, the value and the template version into an item meta.
+     *
+     * @param meta  The meta of the heart item.
+     * @param tier  The tier of the heart item.
+     * @param value The health the item gives.
+     */
+    private static void applyHeartTemplate(@NotNull ItemMeta meta, @NotNull HeartTier tier, double value) {
+        meta.displayName(Component.text(tier.name()).color(NamedTextColor.DARK_PURPLE));
+
+        double hearts = value / LifeStealConstants.HEALTH_POINTS_PER_HEART;
+        String heartText = hearts == 1.0 ? "heart" : "hearts";
+
+        meta.lore(List.of(
+            Component.text("Gives " + formatHealth(hearts) + " permanent " + heartText)
+                .color(NamedTextColor.DARK_PURPLE)
+        ));
+
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        container.set(HEART_TIER_KEY, PersistentDataType.BYTE, (byte) tier.index());
+        container.set(HEART_VALUE_KEY, PersistentDataType.DOUBLE, value);
+        container.set(HEART_TEMPLATE_KEY, PersistentDataType.INTEGER, currentHeartTemplate(tier));
+    }
+
+    /**
+     * @param tier The tier of the heart item.
+     * @return The version of the tier's item template, derived from the settings it is built from.
+     */
+    private static int currentHeartTemplate(@NotNull HeartTier tier) {
+        return Objects.hash(tier.name(), tier.healthPerItem(), LifeStealSettings.isKeepMintedValue());
+    }
+
+    /**
+     * Checks if the given {@link ItemStack} is a custom Heart item of any tier.
      * <p>
      * This method verifies that the item is a heart item and contains
      * a unique persistent data key ("unique_heart_id") with the value "heart".
@@ -124,13 +473,8 @@ public class LifeStealUtil {
      * @param item The {@link ItemStack} to check (can be null).
      * @return {@code true} if the item is a custom Heart, {@code false} otherwise.
      */
-
     public static boolean isHeartItem(ItemStack item) {
-        if (item == null || item.getItemMeta() == null) {
-            return false;
-        }
-        String identifier = item.getItemMeta().getPersistentDataContainer().get(HEART_ID_KEY, PersistentDataType.STRING);
-        return LifeStealConstants.HEART_ID.equals(identifier);
+        return getHeartTier(item) != null;
     }
     
     /**
@@ -0,0 +1,266 @@
+package me.honeyberries.lifeSteal.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A minimal reader and writer for gzip-compressed NBT files such as {@code playerdata/*.dat}.
+ * <p>
+ * Compounds are read as insertion-ordered maps, lists as {@link TagList}, and every other
+ * tag as its boxed Java value or array, so a file can be edited and written back unchanged
+ * apart from the edit. Only one file is held in memory at a time.
+ */
+public final class NbtIO {
+
+    private static final byte TAG_END = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_COMPOUND = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    /** Guards against corrupt files describing absurdly deep structures. */
+    private static final int MAX_DEPTH = 512;
+
+    private NbtIO() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * A list tag, remembering its element type so empty lists round-trip.
+     *
+     * @param elementType The tag type of the elements
+     * @param values      The elements
+     */
+    public record TagList(byte elementType, List<Object> values) {}
+
+    /**
+     * The named root compound of an NBT file.
+     *
+     * @param name  The root name, usually empty
+     * @param value The root compound
+     */
+    public record Root(String name, Map<String, Object> value) {}
+
+    /**
+     * Reads a gzip-compressed NBT file.
+     *
+     * @param file The file to read
+     * @return The root compound
+     * @throws IOException If the file cannot be read or is not a valid NBT compound
+     */
+    @NotNull
+    public static Root readCompressed(@NotNull Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)))) {
+            byte type = data.readByte();
+            if (type != TAG_COMPOUND) {
+                throw new IOException("Root tag of " + file.getFileName() + " is not a compound");
+            }
+            String name = data.readUTF();
+            return new Root(name, readCompound(data, 0));
+        }
+    }
+
+    /**
+     * Writes a gzip-compressed NBT file.
+     *
+     * @param root The root compound
+     * @param file The file to write, replaced if it exists
+     * @throws IOException If the file cannot be written
+     */
+    public static void writeCompressed(@NotNull Root root, @NotNull Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(out)))) {
+            data.writeByte(TAG_COMPOUND);
+            data.writeUTF(root.name());
+            writeCompound(data, root.value());
+        }
+    }
+
+    private static Map<String, Object> readCompound(DataInput in, int depth) throws IOException {
+        checkDepth(depth);
+        Map<String, Object> compound = new LinkedHashMap<>();
+        while (true) {
+            byte type = in.readByte();
+            if (type == TAG_END) {
+                return compound;
+            }
+            String name = in.readUTF();
+            compound.put(name, readPayload(in, type, depth + 1));
+        }
+    }
+
+    private static Object readPayload(DataInput in, byte type, int depth) throws IOException {
+        return switch (type) {
+            case TAG_BYTE -> in.readByte();
+            case TAG_SHORT -> in.readShort();
+            case TAG_INT -> in.readInt();
+            case TAG_LONG -> in.readLong();
+            case TAG_FLOAT -> in.readFloat();
+            case TAG_DOUBLE -> in.readDouble();
+            case TAG_BYTE_ARRAY -> {
+                byte[] array = new byte[readLength(in)];
+                in.readFully(array);
+                yield array;
+            }
+            case TAG_STRING -> in.readUTF();
+            case TAG_LIST -> {
+                checkDepth(depth);
+                byte elementType = in.readByte();
+                int length = readLength(in);
+                List<Object> values = new ArrayList<>(Math.min(length, 1024));
+                for (int i = 0; i < length; i++) {
+                    values.add(readPayload(in, elementType, depth + 1));
+                }
+                yield new TagList(elementType, values);
+            }
+            case TAG_COMPOUND -> readCompound(in, depth);
+            case TAG_INT_ARRAY -> {
+                int[] array = new int[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readInt();
+                }
+                yield array;
+            }
+            case TAG_LONG_ARRAY -> {
+                long[] array = new long[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readLong();
+                }
+                yield array;
+            }
+            default -> throw new IOException("Unknown NBT tag type " + type);
+        };
+    }
+
+    private static void writeCompound(DataOutput out, Map<String, Object> compound) throws IOException {
+        for (Map.Entry<String, Object> entry : compound.entrySet()) {
+            Object value = entry.getValue();
+            out.writeByte(typeOf(value));
+            out.writeUTF(entry.getKey());
+            writePayload(out, value);
+        }
+        out.writeByte(TAG_END);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writePayload(DataOutput out, Object value) throws IOException {
+        if (value instanceof Byte b) {
+            out.writeByte(b);
+        } else if (value instanceof Short s) {
+            out.writeShort(s);
+        } else if (value instanceof Integer i) {
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeLong(l);
+        } else if (value instanceof Float f) {
+            out.writeFloat(f);
+        } else if (value instanceof Double d) {
+            out.writeDouble(d);
+        } else if (value instanceof byte[] array) {
+            out.writeInt(array.length);
+            out.write(array);
+        } else if (value instanceof String s) {
+            out.writeUTF(s);
+        } else if (value instanceof TagList list) {
+            out.writeByte(list.values().isEmpty() ? TAG_END : list.elementType());
+            out.writeInt(list.values().size());
+            for (Object element : list.values()) {
+                writePayload(out, element);
+            }
+        } else if (value instanceof Map<?, ?> compound) {
+            writeCompound(out, (Map<String, Object>) compound);
+        } else if (value instanceof int[] array) {
+            out.writeInt(array.length);
+            for (int element : array) {
+                out.writeInt(element);
+            }
+        } else if (value instanceof long[] array) {
+            out.writeInt(array.length);
+            for (long element : array) {
+                out.writeLong(element);
+            }
+        } else {
+            throw new IOException("Cannot write " + value.getClass().getName() + " as NBT");
+        }
+    }
+
+    private static byte typeOf(Object value) throws IOException {
+        if (value instanceof Byte) {
+            return TAG_BYTE;
+        }
+        if (value instanceof Short) {
+            return TAG_SHORT;
+        }
+        if (value instanceof Integer) {
+            return TAG_INT;
+        }
+        if (value instanceof Long) {
+            return TAG_LONG;
+        }
+        if (value instanceof Float) {
+            return TAG_FLOAT;
+        }
+        if (value instanceof Double) {
+            return TAG_DOUBLE;
+        }
+        if (value instanceof byte[]) {
+            return TAG_BYTE_ARRAY;
+        }
+        if (value instanceof String) {
+            return TAG_STRING;
+        }
+        if (value instanceof TagList) {
+            return TAG_LIST;
+        }
+        if (value instanceof Map<?, ?>) {
+            return TAG_COMPOUND;
+        }
+        if (value instanceof int[]) {
+            return TAG_INT_ARRAY;
+        }
+        if (value instanceof long[]) {
+            return TAG_LONG_ARRAY;
+        }
+        throw new IOException("Cannot write " + value.getClass().getName() + " as NBT");
+    }
+
+    private static int readLength(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative NBT array length " + length);
+        }
+        return length;
+    }
+
+    private static void checkDepth(int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("NBT structure is nested too deeply");
+        }
+    }
+}
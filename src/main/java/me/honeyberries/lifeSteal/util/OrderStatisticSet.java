@@ -0,0 +1,195 @@
+package me.honeyberries.lifeSteal.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A sorted set that can look up elements by their position.
+ * <p>
+ * The set is a treap whose nodes count the elements in their subtree, so adding,
+ * removing and finding the element at an index all cost O(log n), and reading a
+ * range costs O(log n + range). Not thread-safe; callers synchronize externally.
+ *
+ * @param <E> The element type
+ */
+public final class OrderStatisticSet<E extends Comparable<? super E>> {
+
+    private static final class Node<E> {
+        private final E value;
+        private final int priority;
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        private Node(E value) {
+            this.value = value;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private Node<E> root;
+
+    /**
+     * Adds an element.
+     *
+     * @param value The element to add
+     * @return true if the element was added, false if it was already in the set
+     */
+    public boolean add(@NotNull E value) {
+        if (contains(value)) {
+            return false;
+        }
+        root = insert(root, new Node<>(value));
+        return true;
+    }
+
+    /**
+     * Removes an element.
+     *
+     * @param value The element to remove
+     * @return true if the element was removed, false if it was not in the set
+     */
+    public boolean remove(@NotNull E value) {
+        if (!contains(value)) {
+            return false;
+        }
+        root = remove(root, value);
+        return true;
+    }
+
+    /**
+     * @param value The element to look for
+     * @return true if the element is in the set
+     */
+    public boolean contains(@NotNull E value) {
+        Node<E> node = root;
+        while (node != null) {
+            int compared = value.compareTo(node.value);
+            if (compared == 0) {
+                return true;
+            }
+            node = compared < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of elements
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * @return true if the set holds no elements
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Gets the elements from a position on, in ascending order.
+     *
+     * @param from  The index of the first element, starting at 0
+     * @param limit The maximum number of elements to return
+     * @return Up to {@code limit} elements, empty if {@code from} is past the end
+     */
+    @NotNull
+    public List<E> range(int from, int limit) {
+        List<E> values = new ArrayList<>(Math.max(0, Math.min(limit, size() - from)));
+        collect(root, Math.max(0, from), limit, values);
+        return values;
+    }
+
+    private void collect(Node<E> node, int from, int limit, List<E> values) {
+        if (node == null || values.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (from < leftSize) {
+            collect(node.left, from, limit, values);
+        }
+        if (values.size() >= limit) {
+            return;
+        }
+        if (from <= leftSize) {
+            values.add(node.value);
+        }
+        // Everything left of the right subtree is skipped by its size, not visited
+        collect(node.right, Math.max(0, from - leftSize - 1), limit, values);
+    }
+
+    private Node<E> insert(Node<E> node, Node<E> added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.value.compareTo(node.value) < 0) {
+            node.left = insert(node.left, added);
+            update(node);
+            return node.left.priority > node.priority ? rotateRight(node) : node;
+        }
+        node.right = insert(node.right, added);
+        update(node);
+        return node.right.priority > node.priority ? rotateLeft(node) : node;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        update(node);
+        left.right = node;
+        update(left);
+        return left;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        update(node);
+        right.left = node;
+        update(right);
+        return right;
+    }
+
+    private Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<E> remove(Node<E> node, E value) {
+        int compared = value.compareTo(node.value);
+        if (compared == 0) {
+            return merge(node.left, node.right);
+        }
+        if (compared < 0) {
+            node.left = remove(node.left, value);
+        } else {
+            node.right = remove(node.right, value);
+        }
+        update(node);
+        return node;
+    }
+
+    private static <E> int size(Node<E> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static <E> void update(Node<E> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+}
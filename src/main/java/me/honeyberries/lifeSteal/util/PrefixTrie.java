@@ -0,0 +1,111 @@
+package me.honeyberries.lifeSteal.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A concurrent, case-insensitive prefix trie of names.
+ * <p>
+ * Writes are serialized, reads are lock-free. A search walks the prefix and then
+ * collects names in alphabetical order until the limit is reached, so it costs
+ * O(prefix + results) no matter how many names are stored. Empty branches are
+ * pruned on removal, which keeps every visited subtree productive.
+ */
+public class PrefixTrie {
+
+    private static final class Node {
+        private final ConcurrentSkipListMap<Character, Node> children = new ConcurrentSkipListMap<>();
+        /** The stored name in its original case, or null if no name ends here. */
+        private volatile String value;
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a name to the trie, replacing any entry that differs only in case.
+     *
+     * @param name The name to add
+     */
+    public synchronized void add(@NotNull String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.value = name;
+    }
+
+    /**
+     * Removes a name from the trie and prunes branches that no longer lead to a name.
+     *
+     * @param name The name to remove, in any case
+     */
+    public synchronized void remove(@NotNull String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node next = path[i].children.get(key.charAt(i));
+            if (next == null) {
+                return;
+            }
+            path[i + 1] = next;
+        }
+        path[key.length()].value = null;
+
+        for (int i = key.length(); i > 0; i--) {
+            Node node = path[i];
+            if (node.value != null || !node.children.isEmpty()) {
+                break;
+            }
+            path[i - 1].children.remove(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Removes every name from the trie.
+     */
+    public synchronized void clear() {
+        root.children.clear();
+        root.value = null;
+    }
+
+    /**
+     * Finds names starting with a prefix, ignoring case, in alphabetical order.
+     *
+     * @param prefix The prefix to search for
+     * @param limit  The maximum number of names to return
+     * @return Up to {@code limit} matching names in their original case
+     */
+    @NotNull
+    public List<String> search(@NotNull String prefix, int limit) {
+        List<String> results = new ArrayList<>(Math.min(limit, 16));
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node != null && limit > 0) {
+            collect(node, results, limit);
+        }
+        return results;
+    }
+
+    private static void collect(Node node, List<String> results, int limit) {
+        String value = node.value;
+        if (value != null) {
+            results.add(value);
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (results.size() >= limit) {
+                return;
+            }
+            collect(child.getValue(), results, limit);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package me.honeyberries.lifeSteal.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel holding any number of timers with O(1) insert and cancel.
+ * <p>
+ * Time advances in whole ticks. The wheel has {@value #LEVELS} levels of {@value #SLOTS}
+ * slots each; level {@code n} covers {@code 64^(n+1)} ticks. A timer is placed on the lowest
+ * level that can hold its delay and moves down a level each time the wheel reaches its
+ * slot, so every timer is touched at most once per level. Timers further away than the
+ * top level can hold are parked there and re-placed when it comes around.
+ * <p>
+ * Every slot is an intrusive doubly linked list, so cancelling only unlinks the timer.
+ * All methods are synchronized on the wheel.
+ *
+ * @param <T> The value carried by each timer
+ */
+public final class TimingWheel<T> {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY = 1L << (SLOT_BITS * LEVELS);
+
+    /**
+     * A scheduled entry in the wheel.
+     *
+     * @param <T> The value carried by the timer
+     */
+    public static final class Timer<T> {
+        private final T value;
+        private final long deadline;
+        private Slot<T> slot;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return The value carried by this timer
+         */
+        public T value() {
+            return value;
+        }
+
+        /**
+         * @return The tick this timer fires on
+         */
+        public long deadline() {
+            return deadline;
+        }
+    }
+
+    private static final class Slot<T> {
+        private Timer<T> head;
+
+        private void add(Timer<T> timer) {
+            timer.slot = this;
+            timer.previous = null;
+            timer.next = head;
+            if (head != null) {
+                head.previous = timer;
+            }
+            head = timer;
+        }
+
+        private void remove(Timer<T> timer) {
+            if (timer.previous != null) {
+                timer.previous.next = timer.next;
+            } else {
+                head = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.previous = timer.previous;
+            }
+            timer.slot = null;
+            timer.previous = null;
+            timer.next = null;
+        }
+
+        private Timer<T> drain() {
+            Timer<T> drained = head;
+            head = null;
+            return drained;
+        }
+    }
+
+    private final List<Slot<T>[]> levels = new ArrayList<>(LEVELS);
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param startTick The tick the wheel starts at
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTick) {
+        for (int level = 0; level < LEVELS; level++) {
+            Slot<T>[] slots = new Slot[SLOTS];
+            for (int i = 0; i < SLOTS; i++) {
+                slots[i] = new Slot<>();
+            }
+            levels.add(slots);
+        }
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules a timer. Deadlines that are not after the current tick fire on the next tick.
+     *
+     * @param value    The value to hand back when the timer fires
+     * @param deadline The tick to fire on
+     * @return The timer, which can be cancelled
+     */
+    @NotNull
+    public synchronized Timer<T> schedule(T value, long deadline) {
+        Timer<T> timer = new Timer<>(value, deadline);
+        place(timer, currentTick + 1);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a timer.
+     *
+     * @param timer The timer to cancel
+     * @return true if the timer was pending, false if it already fired or was cancelled
+     */
+    public synchronized boolean cancel(@NotNull Timer<T> timer) {
+        if (timer.slot == null) {
+            return false;
+        }
+        timer.slot.remove(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Checks whether a timer has neither fired nor been cancelled.
+     *
+     * @param timer The timer to check
+     * @return true if the timer is still pending
+     */
+    public synchronized boolean isPending(@NotNull Timer<T> timer) {
+        return timer.slot != null;
+    }
+
+    /**
+     * Advances the wheel tick by tick up to the given tick and collects every timer that fired.
+     *
+     * @param tick The tick to advance to
+     * @return The values of the fired timers, in firing order
+     */
+    @NotNull
+    public synchronized List<T> advance(long tick) {
+        List<T> fired = new ArrayList<>();
+        while (currentTick < tick) {
+            currentTick++;
+            // Move timers down from every level whose window starts at this tick, highest first
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(levels.get(level)[(int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK]);
+                }
+            }
+            Timer<T> timer = levels.get(0)[(int) currentTick & SLOT_MASK].drain();
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.slot = null;
+                timer.previous = null;
+                timer.next = null;
+                if (timer.deadline <= currentTick) {
+                    size--;
+                    fired.add(timer.value);
+                } else {
+                    place(timer, currentTick + 1);
+                }
+                timer = next;
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Gets the values of every pending timer, for example to persist them.
+     *
+     * @return The pending values, in no particular order
+     */
+    @NotNull
+    public synchronized List<T> pending() {
+        List<T> values = new ArrayList<>(size);
+        for (Slot<T>[] slots : levels) {
+            for (Slot<T> slot : slots) {
+                for (Timer<T> timer = slot.head; timer != null; timer = timer.next) {
+                    values.add(timer.value);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return The number of pending timers
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return The tick the wheel has advanced to
+     */
+    public synchronized long currentTick() {
+        return currentTick;
+    }
+
+    private void cascade(Slot<T> slot) {
+        Timer<T> timer = slot.drain();
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.slot = null;
+            timer.previous = null;
+            timer.next = null;
+            // Cascading runs before this tick's level 0 slot fires, so timers due now still fire on time
+            place(timer, currentTick);
+            timer = next;
+        }
+    }
+
+    private void place(Timer<T> timer, long earliest) {
+        long target = Math.max(timer.deadline, earliest);
+        long delay = target - currentTick;
+        if (delay >= MAX_DELAY) {
+            // Park in the top level slot that comes around last, it is re-placed from there
+            int top = LEVELS - 1;
+            levels.get(top)[(int) (currentTick >>> (SLOT_BITS * top)) & SLOT_MASK].add(timer);
+            return;
+        }
+        int level = 0;
+        while (delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        levels.get(level)[(int) (target >>> (SLOT_BITS * level)) & SLOT_MASK].add(timer);
+    }
+}
@@ -0,0 +1,191 @@
+package me.honeyberries.lifeSteal.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Races many threads on the same players to check that the roster's compare-and-set
+ * operations never lose or duplicate an entry.
+ */
+class EliminationRosterTest {
+
+    private static final int THREADS = 16;
+    private static final int PLAYERS = 200;
+
+    private final List<UUID> players = new ArrayList<>(PLAYERS);
+
+    @BeforeEach
+    void setUp() {
+        players.clear();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(UUID.randomUUID());
+        }
+        EliminationRoster.load(List.of());
+    }
+
+    @Test
+    void concurrentRemovesHaveExactlyOneWinner() throws Exception {
+        EliminationRoster.load(players.stream().map(EliminationRosterTest::entry).toList());
+        AtomicIntegerArray wins = new AtomicIntegerArray(PLAYERS);
+
+        race(() -> {
+            for (int index : shuffledIndices()) {
+                EliminationRoster.Entry removed = EliminationRoster.remove(players.get(index));
+                if (removed != null) {
+                    assertEquals(players.get(index), removed.uuid());
+                    wins.incrementAndGet(index);
+                }
+            }
+        });
+
+        for (int i = 0; i < PLAYERS; i++) {
+            assertEquals(1, wins.get(i), "remove winners for player " + i);
+        }
+        assertTrue(EliminationRoster.snapshot().isEmpty());
+        assertConsistent(EliminationRoster.snapshot());
+    }
+
+    @Test
+    void concurrentAddsHaveExactlyOneWinner() throws Exception {
+        AtomicIntegerArray wins = new AtomicIntegerArray(PLAYERS);
+
+        race(() -> {
+            for (int index : shuffledIndices()) {
+                if (EliminationRoster.add(entry(players.get(index)))) {
+                    wins.incrementAndGet(index);
+                }
+            }
+        });
+
+        for (int i = 0; i < PLAYERS; i++) {
+            assertEquals(1, wins.get(i), "add winners for player " + i);
+        }
+        assertEquals(PLAYERS, EliminationRoster.snapshot().size());
+        assertConsistent(EliminationRoster.snapshot());
+    }
+
+    @Test
+    void mixedAddReplaceRemoveKeepsSnapshotConsistent() throws Exception {
+        List<UUID> contended = players.subList(0, 8);
+        // Successful adds minus successful removes, which must end as 0 or 1 for every player
+        AtomicIntegerArray balance = new AtomicIntegerArray(contended.size());
+
+        race(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int op = 0; op < 20_000; op++) {
+                int index = random.nextInt(contended.size());
+                UUID uuid = contended.get(index);
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        if (EliminationRoster.add(entry(uuid))) {
+                            balance.incrementAndGet(index);
+                        }
+                    }
+                    case 1 -> {
+                        EliminationRoster.Entry current = EliminationRoster.snapshot().get(uuid);
+                        if (current != null) {
+                            EliminationRoster.replace(current, new EliminationRoster.Entry(uuid, "renamed-" + op,
+                                current.eliminatedAt(), current.cause(), current.killer(), current.expiresAt()));
+                        }
+                    }
+                    default -> {
+                        EliminationRoster.Entry removed = EliminationRoster.remove(uuid);
+                        if (removed != null) {
+                            assertEquals(uuid, removed.uuid());
+                            balance.decrementAndGet(index);
+                        }
+                    }
+                }
+            }
+        });
+
+        EliminationRoster.Snapshot snapshot = EliminationRoster.snapshot();
+        assertConsistent(snapshot);
+        for (int i = 0; i < contended.size(); i++) {
+            int expected = balance.get(i);
+            assertTrue(expected == 0 || expected == 1, "balance for player " + i + " was " + expected);
+            assertEquals(expected == 1, snapshot.contains(contended.get(i)));
+        }
+    }
+
+    @Test
+    void replaceFailsOnceTheEntryChanged() {
+        UUID uuid = players.get(0);
+        EliminationRoster.Entry original = entry(uuid);
+        assertTrue(EliminationRoster.add(original));
+
+        EliminationRoster.Entry renamed = new EliminationRoster.Entry(uuid, "renamed", 1, EliminationRoster.UNKNOWN_CAUSE, null, 0);
+        assertTrue(EliminationRoster.replace(original, renamed));
+        assertFalse(EliminationRoster.replace(original, entry(uuid)));
+        assertSame(renamed, EliminationRoster.remove(uuid));
+        assertFalse(EliminationRoster.replace(renamed, original));
+    }
+
+    /**
+     * Checks that the list and the UUID index of a snapshot hold exactly the same entries.
+     */
+    private static void assertConsistent(EliminationRoster.Snapshot snapshot) {
+        Set<UUID> seen = new HashSet<>();
+        for (EliminationRoster.Entry entry : snapshot.recent()) {
+            assertTrue(seen.add(entry.uuid()), "duplicate entry for " + entry.uuid());
+            assertSame(entry, snapshot.get(entry.uuid()));
+        }
+        assertEquals(seen.size(), snapshot.size());
+        for (UUID uuid : seen) {
+            assertTrue(snapshot.contains(uuid));
+        }
+    }
+
+    private void race(Runnable work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    work.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Integer> shuffledIndices() {
+        List<Integer> indices = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++) {
+            indices.add(i);
+        }
+        Collections.shuffle(indices, ThreadLocalRandom.current());
+        return indices;
+    }
+
+    private static EliminationRoster.Entry entry(UUID uuid) {
+        return new EliminationRoster.Entry(uuid, "player", System.currentTimeMillis(), EliminationRoster.UNKNOWN_CAUSE, null, 0);
+    }
+}
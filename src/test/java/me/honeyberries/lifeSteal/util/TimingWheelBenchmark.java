@@ -0,0 +1,71 @@
+package me.honeyberries.lifeSteal.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the wheel with 100k live timers spread over a simulated day of one-second ticks,
+ * the way {@code HeartTimers} drives it. Excluded from {@code test}; run it with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class TimingWheelBenchmark {
+
+    private static final int TIMERS = 100_000;
+    private static final long DAY_TICKS = TimeUnit.DAYS.toSeconds(1);
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    @Test
+    void scheduleCancelAndAdvance100kTimers() {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runRound(round, false);
+        }
+        for (int round = 0; round < ROUNDS; round++) {
+            runRound(WARMUP_ROUNDS + round, true);
+        }
+    }
+
+    private static void runRound(int seed, boolean report) {
+        Random random = new Random(seed);
+        long[] deadlines = new long[TIMERS];
+        for (int i = 0; i < TIMERS; i++) {
+            deadlines[i] = 1 + (long) (random.nextDouble() * DAY_TICKS);
+        }
+        TimingWheel<Integer> wheel = new TimingWheel<>(0);
+        List<TimingWheel.Timer<Integer>> timers = new ArrayList<>(TIMERS);
+
+        long scheduleStart = System.nanoTime();
+        for (int i = 0; i < TIMERS; i++) {
+            timers.add(wheel.schedule(i, deadlines[i]));
+        }
+        long scheduleNanos = System.nanoTime() - scheduleStart;
+
+        long cancelStart = System.nanoTime();
+        for (int i = 0; i < TIMERS; i += 2) {
+            wheel.cancel(timers.get(i));
+        }
+        long cancelNanos = System.nanoTime() - cancelStart;
+
+        long advanceStart = System.nanoTime();
+        int fired = 0;
+        for (long tick = 1; tick <= DAY_TICKS; tick++) {
+            fired += wheel.advance(tick).size();
+        }
+        long advanceNanos = System.nanoTime() - advanceStart;
+
+        assertEquals(TIMERS / 2, fired);
+        assertEquals(0, wheel.size());
+        if (report) {
+            System.out.printf("%,d schedules: %.1f ms, %,d cancels: %.1f ms, %,d ticks: %.1f ms%n",
+                TIMERS, scheduleNanos / 1e6, TIMERS / 2, cancelNanos / 1e6, DAY_TICKS, advanceNanos / 1e6);
+        }
+    }
+}
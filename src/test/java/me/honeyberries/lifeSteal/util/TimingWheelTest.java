@@ -0,0 +1,167 @@
+package me.honeyberries.lifeSteal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that timers fire on their exact tick across level boundaries, cascades and parking.
+ */
+class TimingWheelTest {
+
+    /** Ticks covered by levels 0 to 3, see {@link TimingWheel}. */
+    private static final long[] LEVEL_SPANS = {64, 64 * 64, 64 * 64 * 64, 64L * 64 * 64 * 64};
+    private static final long MAX_DELAY = LEVEL_SPANS[3];
+
+    @Test
+    void firesDeadlinesOnLevelBoundaries() {
+        for (long start : new long[]{0, 1, 63, 64, 70, 4095, 4096, 262_143, 1_000_003}) {
+            TimingWheel<Long> wheel = new TimingWheel<>(start);
+            List<Long> deadlines = new ArrayList<>();
+            for (long span : new long[]{LEVEL_SPANS[0], LEVEL_SPANS[1], LEVEL_SPANS[2]}) {
+                // The next boundary of each level, one tick either side, and a full span away
+                long boundary = (start / span + 1) * span;
+                for (long deadline : new long[]{boundary - 1, boundary, boundary + 1, start + span - 1, start + span, start + span + 1}) {
+                    if (deadline > start && !deadlines.contains(deadline)) {
+                        deadlines.add(deadline);
+                        wheel.schedule(deadline, deadline);
+                    }
+                }
+            }
+
+            Map<Long, Long> firedAt = advanceTickByTick(wheel, start + LEVEL_SPANS[2] + 2);
+            assertEquals(deadlines.size(), firedAt.size(), "fired timers from start " + start);
+            for (Long deadline : deadlines) {
+                assertEquals(deadline, firedAt.get(deadline), "deadline " + deadline + " from start " + start);
+            }
+            assertEquals(0, wheel.size());
+        }
+    }
+
+    @Test
+    void firesSlotThatWrapsAroundToTheCurrentOne() {
+        // From tick 70, a deadline 4093 ticks away lands in the level 1 slot the wheel is in right now
+        TimingWheel<String> wheel = new TimingWheel<>(70);
+        wheel.schedule("wrapped", 4163);
+
+        assertTrue(wheel.advance(4162).isEmpty());
+        assertEquals(List.of("wrapped"), wheel.advance(4163));
+    }
+
+    @Test
+    void firesPastDeadlinesOnTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        wheel.schedule("past", 50);
+        wheel.schedule("now", 100);
+
+        assertEquals(List.of("now", "past"), sorted(wheel.advance(101)));
+    }
+
+    @Test
+    void parksAndReplacesTimersBeyondMaxDelay() {
+        for (long start : new long[]{0, 5, MAX_DELAY - 1}) {
+            TimingWheel<Long> wheel = new TimingWheel<>(start);
+            long[] deadlines = {start + MAX_DELAY - 1, start + MAX_DELAY, start + MAX_DELAY + 1, start + 3 * MAX_DELAY + 7};
+            for (long deadline : deadlines) {
+                wheel.schedule(deadline, deadline);
+            }
+
+            for (long deadline : deadlines) {
+                assertTrue(wheel.advance(deadline - 1).isEmpty(), "fired before " + deadline + " from start " + start);
+                assertEquals(List.of(deadline), wheel.advance(deadline), "deadline " + deadline + " from start " + start);
+            }
+            assertEquals(0, wheel.size());
+        }
+    }
+
+    @Test
+    void cancelsTimersAfterTheyCascaded() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timer<String> fromLevel1 = wheel.schedule("level 1", 100);
+        TimingWheel.Timer<String> fromLevel2 = wheel.schedule("level 2", 5000);
+        TimingWheel.Timer<String> parked = wheel.schedule("parked", MAX_DELAY + 10);
+        TimingWheel.Timer<String> kept = wheel.schedule("kept", 5001);
+
+        // Tick 64 moves the level 1 timer down, tick 4096 the level 2 timer
+        assertTrue(wheel.advance(64).isEmpty());
+        assertTrue(wheel.cancel(fromLevel1));
+        assertFalse(wheel.isPending(fromLevel1));
+        assertTrue(wheel.advance(4096).isEmpty());
+        assertTrue(wheel.cancel(fromLevel2));
+        assertFalse(wheel.cancel(fromLevel2));
+
+        assertEquals(List.of("kept"), wheel.advance(MAX_DELAY));
+        assertFalse(wheel.cancel(kept));
+        // The parked timer has been re-placed onto a lower level by now
+        assertTrue(wheel.isPending(parked));
+        assertTrue(wheel.cancel(parked));
+
+        assertTrue(wheel.advance(MAX_DELAY + 100).isEmpty());
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.pending().isEmpty());
+    }
+
+    @Test
+    void matchesReferenceWithRandomTimers() {
+        Random random = new Random(42);
+        long start = 12_345;
+        TimingWheel<Integer> wheel = new TimingWheel<>(start);
+        List<TimingWheel.Timer<Integer>> timers = new ArrayList<>();
+        Map<Integer, Long> expected = new HashMap<>();
+
+        long now = start;
+        long end = start + 2 * LEVEL_SPANS[2];
+        while (now < end) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                int id = timers.size();
+                long deadline = now + 1 + (long) (Math.pow(random.nextDouble(), 3) * LEVEL_SPANS[2]);
+                timers.add(wheel.schedule(id, deadline));
+                expected.put(id, deadline);
+            }
+            if (!timers.isEmpty() && random.nextInt(4) == 0) {
+                TimingWheel.Timer<Integer> timer = timers.get(random.nextInt(timers.size()));
+                if (wheel.cancel(timer)) {
+                    expected.remove(timer.value());
+                }
+            }
+
+            long next = now + 1 + random.nextInt(3);
+            for (int id : wheel.advance(next)) {
+                Long deadline = expected.remove(id);
+                assertNotNull(deadline, "timer " + id + " fired twice or after being cancelled");
+                assertTrue(deadline > now && deadline <= next, "timer " + id + " due " + deadline + " fired in (" + now + ", " + next + "]");
+            }
+            now = next;
+        }
+        for (long deadline : expected.values()) {
+            assertTrue(deadline > now, "timer due " + deadline + " never fired");
+        }
+        assertEquals(expected.size(), wheel.size());
+    }
+
+    private static Map<Long, Long> advanceTickByTick(TimingWheel<Long> wheel, long end) {
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long tick = wheel.currentTick() + 1; tick <= end; tick++) {
+            for (long value : wheel.advance(tick)) {
+                assertNull(firedAt.put(value, tick), "timer " + value + " fired twice");
+            }
+        }
+        return firedAt;
+    }
+
+    private static List<String> sorted(List<String> values) {
+        List<String> copy = new ArrayList<>(values);
+        copy.sort(null);
+        return copy;
+    }
+}